@@ -0,0 +1,77 @@
+package com.example.soop.global.redis.codec;
+
+import com.example.soop.domain.chat.dto.res.ChatContentResponse;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 채팅 이벤트 코덱 인코딩/디코딩 비교 (./gradlew jmh)
+ * - content 길이별로 json / binary 코덱 처리량 측정
+ * - 인코딩 크기는 setup 시 한 번 출력 (Pub/Sub 전송량 비교용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatEventCodecBenchmark {
+
+    @Param({"16", "256"})
+    private int contentLength;
+
+    private final JsonChatEventCodec json = new JsonChatEventCodec();
+    private final BinaryChatEventCodec binary = new BinaryChatEventCodec();
+
+    private ChatContentResponse message;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        message = new ChatContentResponse(
+            "65f1c2a9e4b0a1b2c3d4e5f6",
+            1_024L,
+            52_311L,
+            "가".repeat(contentLength),
+            LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000),
+            18_204L
+        );
+        jsonBytes = json.encode(message);
+        binaryBytes = binary.encode(message);
+        System.out.printf("%n[content %d자] json: %d bytes, binary: %d bytes%n",
+            contentLength, jsonBytes.length, binaryBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return json.encode(message);
+    }
+
+    @Benchmark
+    public ChatContentResponse jsonDecode() {
+        return json.decode(jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return binary.encode(message);
+    }
+
+    @Benchmark
+    public ChatContentResponse binaryDecode() {
+        return binary.decode(binaryBytes);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.soop.domain.chat;
+
+import com.example.soop.domain.chat.type.EmpathyLevel;
+import com.example.soop.domain.chat.type.ToneLevel;
+
+/**
+ * AI 챗봇 성격 (ChatRoomInfo 중 프롬프트에 필요한 값만 복사한 불변 객체)
+ */
+public record ChatBotPersona(
+    String name,
+    String description,
+    EmpathyLevel empathyLevel,
+    ToneLevel tone
+) {
+
+}
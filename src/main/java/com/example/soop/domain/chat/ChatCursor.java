@@ -0,0 +1,40 @@
+package com.example.soop.domain.chat;
+
+import com.example.soop.domain.chat.entity.Chat;
+import com.example.soop.global.code.ErrorCode;
+import com.example.soop.global.exception.ChatException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import org.bson.types.ObjectId;
+
+/**
+ * 채팅 메시지 페이지 커서 (created_at, _id)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출
+ * - MongoDB 의 날짜 정밀도(ms)에 맞춰 created_at 을 잘라서 사용
+ */
+public record ChatCursor(LocalDateTime createdAt, ObjectId chatId) {
+
+    private static final String DELIMITER = "_";
+
+    public static ChatCursor of(Chat chat) {
+        return new ChatCursor(chat.getCreatedAt().truncatedTo(ChronoUnit.MILLIS), new ObjectId(chat.getId()));
+    }
+
+    public static String encode(Chat chat) {
+        ChatCursor cursor = of(chat);
+        String raw = cursor.createdAt() + DELIMITER + cursor.chatId().toHexString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChatCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new ChatCursor(LocalDateTime.parse(raw.substring(0, idx)), new ObjectId(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new ChatException(ErrorCode.CHAT_CURSOR_INVALID);
+        }
+    }
+}
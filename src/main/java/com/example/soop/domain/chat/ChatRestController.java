@@ -6,7 +6,6 @@ import com.example.soop.domain.chat.dto.req.CreateChatRoomInfoRequest;
 import com.example.soop.domain.chat.dto.res.AIChatRoomInfoResponse;
 import com.example.soop.domain.chat.dto.res.AIChatRoomResponse;
 import com.example.soop.domain.chat.dto.res.AIChatRoomsResponse;
-import com.example.soop.domain.chat.dto.res.ChatContentResponse;
 import com.example.soop.domain.chat.dto.res.ChatContentsResponse;
 import com.example.soop.domain.chat.dto.res.ChatRoomIdResponse;
 import com.example.soop.domain.chat.dto.res.ChatRoomResponse;
@@ -25,6 +24,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -107,7 +107,7 @@ public class ChatRestController {
         @AuthenticationPrincipal CustomUserDetails userDetail,
         @PathVariable("roomId") Long roomId
     ) {
-        AIChatRoomResponse aiChatRoom = chatService.getAIChatRoom(roomId);
+        AIChatRoomResponse aiChatRoom = chatService.getAIChatRoom(userDetail.getId(), roomId);
         return ApiResponse.createSuccessWithData(aiChatRoom);
     }
 
@@ -146,14 +146,27 @@ public class ChatRestController {
     /**
      * [공통]
      */
-    @Operation(summary = "채팅방 메시지 목록 조회", description = "특정 채팅방의 메시지 목록을 조회합니다.")
+    @Operation(summary = "채팅방 메시지 목록 조회",
+        description = "특정 채팅방의 메시지를 최신 메시지부터 페이지 단위로 조회합니다. "
+            + "이전 메시지는 before, 이후 메시지는 after 커서로 이어서 조회합니다. "
+            + "sinceSeq 를 주면 해당 순번 이후 메시지만 오래된 순으로 조회합니다.")
     @GetMapping("/{chatRoomId}/messages")
     @ApiResponses({
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "CHAT401", description = "잘못된 커서")
     })
-    public ApiResponse<ChatContentsResponse> getMessages(@PathVariable Long chatRoomId) {
-        List<ChatContentResponse> chatContentResponses = chatService.getChatsByRoomId(chatRoomId);
-        return ApiResponse.createSuccessWithData(new ChatContentsResponse(chatContentResponses));
+    public ApiResponse<ChatContentsResponse> getMessages(
+        @PathVariable Long chatRoomId,
+        @RequestParam(value = "before", required = false) String before,
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "sinceSeq", required = false) Long sinceSeq,
+        @RequestParam(value = "size", defaultValue = "30") int size
+    ) {
+        if (sinceSeq != null) {
+            return ApiResponse.createSuccessWithData(chatService.getChatsSinceSeq(chatRoomId, sinceSeq, size));
+        }
+        ChatContentsResponse chatContentsResponse = chatService.getChatsByRoomId(chatRoomId, before, after, size);
+        return ApiResponse.createSuccessWithData(chatContentsResponse);
     }
 
 
@@ -0,0 +1,144 @@
+package com.example.soop.domain.chat;
+
+import com.example.soop.domain.chat.entity.Chat;
+import com.example.soop.domain.chat.entity.ChatRoom;
+import com.example.soop.domain.chat.repository.ChatRepository;
+import com.example.soop.domain.chat.repository.ChatRoomRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 데이터 일회성 보정 작업 (애플리케이션 시작 시 실행)
+ * - 작업별로 Redis 에 완료 표시(migration:{name}=done)를 남겨 한 번만 실행
+ * - 여러 서버가 동시에 시작해도 잠금(SET NX)을 잡은 서버 하나만 실행, 실패하면 잠금을 풀어 다음 시작 시 재시도
+ * - pairKey: pairKey 도입 이전 1:1 채팅방에 두 멤버로 pairKey 를 채움
+ *   -> 완료 전까지는 ChatService 가 멤버십 조회로 이전 채팅방을 찾고, 완료 후에는 pairKey 단건 조회만 사용
+ * - 최근 메시지 스냅샷: 스냅샷 도입 이전 채팅방의 lastMessage* 를 MongoDB 최근 메시지로 채움
+ *   -> 채팅방 목록 조회는 MongoDB 를 전혀 조회하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomBackfillJob implements ApplicationRunner {
+
+    public static final String PAIR_KEY_BACKFILL = "chat-room-pair-key";
+
+    private static final String KEY_PREFIX = "migration:";
+    private static final String DONE = "done";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+    private static final int BATCH_SIZE = 500;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRepository chatRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Set<String> completed = ConcurrentHashMap.newKeySet(); // 완료가 확인된 작업 (완료 표시는 지워지지 않음)
+
+    @Override
+    public void run(ApplicationArguments args) {
+        runOnce(PAIR_KEY_BACKFILL, this::backfillPairKeys);
+        runOnce("chat-room-last-message", this::backfillLastMessages);
+    }
+
+    /**
+     * 보정 작업 완료 여부 (migration:{name}=done) - 완료가 확인되면 이후에는 Redis 를 조회하지 않음
+     * - Redis 조회 실패 시 완료되지 않은 것으로 봄 (이전 데이터 대응 경로를 계속 사용)
+     */
+    public boolean isCompleted(String name) {
+        if (completed.contains(name)) {
+            return true;
+        }
+        try {
+            if (DONE.equals(stringRedisTemplate.opsForValue().get(KEY_PREFIX + name))) {
+                completed.add(name);
+                return true;
+            }
+        } catch (Exception e) {
+            log.warn("채팅방 보정 작업 완료 여부 조회 실패, name: {}", name, e);
+        }
+        return false;
+    }
+
+    private void runOnce(String name, Runnable task) {
+        String key = KEY_PREFIX + name;
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, "running", LOCK_TTL);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return; // 이미 완료됐거나 다른 서버에서 실행 중
+            }
+        } catch (Exception e) {
+            log.warn("채팅방 보정 작업 잠금 실패, 다음 시작 시 재시도, name: {}", name, e);
+            return;
+        }
+        try {
+            task.run();
+            stringRedisTemplate.opsForValue().set(key, DONE);
+            completed.add(name);
+            log.info("채팅방 보정 작업 완료, name: {}", name);
+        } catch (Exception e) {
+            log.error("채팅방 보정 작업 실패, 다음 시작 시 재시도, name: {}", name, e);
+            stringRedisTemplate.delete(key);
+        }
+    }
+
+    /**
+     * pairKey 가 없는 1:1 채팅방을 id 순으로 BATCH_SIZE 개씩 -> 채팅방마다 pairKey 갱신
+     * - 같은 두 유저의 채팅방이 이미 pairKey 를 가지고 있으면(중복 채팅방) 건너뜀
+     */
+    private void backfillPairKeys() {
+        long afterId = 0;
+        int filled = 0;
+        int duplicated = 0;
+        while (true) {
+            List<ChatRoomPair> pairs = chatRoomRepository.findPairsWithoutPairKey(RoomType.USER_TO_EXPERT, afterId,
+                PageRequest.of(0, BATCH_SIZE));
+            if (pairs.isEmpty()) {
+                break;
+            }
+            for (ChatRoomPair pair : pairs) {
+                String pairKey = ChatRoom.pairKeyOf(pair.roomType(), pair.userId(), pair.targetUserId());
+                try {
+                    filled += chatRoomRepository.updatePairKeyIfAbsent(pair.chatRoomId(), pairKey);
+                } catch (DataIntegrityViolationException e) {
+                    duplicated++;
+                    log.warn("중복 1:1 채팅방, pairKey 보정 건너뜀, chatRoomId: {}, pairKey: {}", pair.chatRoomId(), pairKey);
+                }
+            }
+            afterId = pairs.get(pairs.size() - 1).chatRoomId();
+        }
+        log.info("pairKey 보정, 채팅방 수: {}, 중복으로 건너뜀: {}", filled, duplicated);
+    }
+
+    /**
+     * 스냅샷이 없는 채팅방을 id 순으로 BATCH_SIZE 개씩 -> 배치마다 MongoDB 최근 메시지 한 번 조회
+     * - 메시지가 없는 채팅방은 그대로 둠 (이후 첫 메시지 저장 시 ChatWriteBehindBuffer 가 채움)
+     */
+    private void backfillLastMessages() {
+        long afterId = 0;
+        int filled = 0;
+        while (true) {
+            List<Long> chatRoomIds = chatRoomRepository.findIdsWithoutLastMessage(afterId, PageRequest.of(0, BATCH_SIZE));
+            if (chatRoomIds.isEmpty()) {
+                break;
+            }
+            for (Chat chat : chatRepository.findLatestChatsByChatRoomIdIn(chatRoomIds)) {
+                LocalDateTime sentAt = chat.getCreatedAt().truncatedTo(ChronoUnit.MILLIS);
+                filled += chatRoomRepository.updateLastMessageIfNewer(chat.getChatRoomId(), chat.getId(),
+                    ChatRoom.toPreview(chat.getContent()), chat.getSenderId(), sentAt);
+            }
+            afterId = chatRoomIds.get(chatRoomIds.size() - 1);
+        }
+        log.info("최근 메시지 스냅샷 보정, 채팅방 수: {}", filled);
+    }
+}
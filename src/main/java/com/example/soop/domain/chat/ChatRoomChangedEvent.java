@@ -0,0 +1,9 @@
+package com.example.soop.domain.chat;
+
+/**
+ * 채팅방 정보(멤버 등)가 바뀌었음을 알리는 서버 내부 이벤트
+ * - 이 서버에서 바뀐 경우와 다른 서버의 무효화 메시지를 받은 경우 모두 발행 (ChatRoomMetadataCache)
+ */
+public record ChatRoomChangedEvent(Long chatRoomId) {
+
+}
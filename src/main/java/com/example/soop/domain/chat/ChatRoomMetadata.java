@@ -0,0 +1,36 @@
+package com.example.soop.domain.chat;
+
+import com.example.soop.domain.chat.entity.RoomStatus;
+import com.example.soop.domain.chat.type.EmpathyLevel;
+import com.example.soop.domain.chat.type.ToneLevel;
+import java.util.Set;
+
+/**
+ * 메시지 처리 시 필요한 채팅방 정보 (불변, ChatRoomMetadataCache 에 보관)
+ */
+public record ChatRoomMetadata(
+    Long chatRoomId,
+    RoomType roomType,
+    RoomStatus status,
+    ChatBotPersona persona, // AI 채팅방이 아니면 null
+    Set<Long> memberIds
+) {
+
+    /**
+     * JPQL 생성자 표현식용 (ChatRoomRepository.findMetadataById) - 멤버는 별도 조회 후 withMemberIds
+     */
+    public ChatRoomMetadata(Long chatRoomId, RoomType roomType, RoomStatus status, Long chatRoomInfoId,
+        String name, String description, EmpathyLevel empathyLevel, ToneLevel tone) {
+        this(chatRoomId, roomType, status,
+            chatRoomInfoId == null ? null : new ChatBotPersona(name, description, empathyLevel, tone),
+            Set.of());
+    }
+
+    public ChatRoomMetadata withMemberIds(Set<Long> memberIds) {
+        return new ChatRoomMetadata(chatRoomId, roomType, status, persona, Set.copyOf(memberIds));
+    }
+
+    public boolean isMember(Long userId) {
+        return memberIds.contains(userId);
+    }
+}
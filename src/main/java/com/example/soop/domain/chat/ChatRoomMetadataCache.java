@@ -0,0 +1,114 @@
+package com.example.soop.domain.chat;
+
+import com.example.soop.domain.chat.repository.ChatRoomRepository;
+import com.example.soop.domain.chat.repository.MemberShipRepository;
+import com.example.soop.global.code.ErrorCode;
+import com.example.soop.global.config.RedisConfig;
+import com.example.soop.global.exception.ChatException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 채팅방 메타데이터(방 종류, 상태, 챗봇 성격, 멤버) 로컬 캐시
+ * - 메시지마다 하던 ChatRoom 조회(+ ChatRoomInfo, User 즉시 로딩)를 캐시 조회로 대체
+ * - 최대 개수, TTL 로 제거 (chat.room-cache.*)
+ * - 채팅방이 바뀌면 evict -> Redis 채널로 모든 서버의 캐시 무효화 (트랜잭션 커밋 후 발행)
+ * - 무효화될 때마다 서버 내부에 ChatRoomChangedEvent 발행 (세션 컨텍스트 갱신용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMetadataCache implements MessageListener {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final MemberShipRepository memberShipRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${chat.room-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${chat.room-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private Cache<Long, ChatRoomMetadata> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "chatRoomMetadata");
+    }
+
+    public ChatRoomMetadata get(Long chatRoomId) {
+        return cache.get(chatRoomId, this::load);
+    }
+
+    /**
+     * 로컬 캐시 제거 + 다른 서버에 무효화 발행
+     */
+    public void evict(Long chatRoomId) {
+        invalidateLocal(chatRoomId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 다른 서버가 다시 읽어 이전 값을 캐시하지 않도록 커밋 후 발행
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishEvict(chatRoomId);
+                }
+            });
+        } else {
+            publishEvict(chatRoomId);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            invalidateLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 채팅방 캐시 무효화 메시지: {}", message);
+        }
+    }
+
+    private void invalidateLocal(Long chatRoomId) {
+        cache.invalidate(chatRoomId);
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(chatRoomId));
+    }
+
+    private ChatRoomMetadata load(Long chatRoomId) {
+        ChatRoomMetadata metadata = chatRoomRepository.findMetadataById(chatRoomId)
+            .orElseThrow(() -> new ChatException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+        return metadata.withMemberIds(new HashSet<>(memberShipRepository.findUserIdsByChatRoomId(chatRoomId)));
+    }
+
+    private void publishEvict(Long chatRoomId) {
+        // 커밋 전 사이에 다시 캐시된 이전 값도 제거, 발행 실패 시 다른 서버는 TTL 로 갱신되므로 로그만 남김
+        try {
+            cache.invalidate(chatRoomId);
+            stringRedisTemplate.convertAndSend(RedisConfig.CHAT_ROOM_INVALIDATE_TOPIC, chatRoomId.toString());
+        } catch (Exception e) {
+            log.warn("채팅방 캐시 무효화 발행 실패, chatRoomId: {}", chatRoomId, e);
+        }
+    }
+}
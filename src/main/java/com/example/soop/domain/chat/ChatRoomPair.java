@@ -0,0 +1,12 @@
+package com.example.soop.domain.chat;
+
+/**
+ * 1:1 채팅방과 두 멤버 (JPQL 생성자 표현식용, ChatRoomRepository.findPairsWithoutPairKey)
+ */
+public record ChatRoomPair(
+    Long chatRoomId,
+    RoomType roomType,
+    Long userId,
+    Long targetUserId
+) {
+}
@@ -0,0 +1,9 @@
+package com.example.soop.domain.chat;
+
+/**
+ * 이 서버에 채팅방을 구독 중인 STOMP 세션이 더 이상 없음을 알리는 서버 내부 이벤트
+ * - 마지막 구독이 UNSUBSCRIBE / 연결 종료로 사라졌을 때 발행 (ChatRoomChannelRegistry)
+ */
+public record ChatRoomUnsubscribedEvent(Long chatRoomId) {
+
+}
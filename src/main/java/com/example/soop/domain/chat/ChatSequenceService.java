@@ -0,0 +1,37 @@
+package com.example.soop.domain.chat;
+
+import com.example.soop.domain.chat.entity.ChatSequence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅방별 메시지 순번 발급
+ * - MongoDB findAndModify($inc, upsert) 로 서버가 여러 대여도 원자적으로 발급
+ * - 여러 개를 한 번에 예약할 수 있어 write-behind 배치당 채팅방별 한 번만 호출
+ * - 저장 실패 시 순번이 비어 있을 수 있음 (연속 보장 X, 증가만 보장)
+ * - 저장 전에 발급하므로 서버가 여러 대면 N+1 이 N 보다 먼저 저장될 수 있음 -> 조회 측(ChatService.getChatsSinceSeq)에서 연속 구간까지만 반환
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatSequenceService {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * count 개 순번 예약 - 예약한 첫 번째 순번 반환 (첫 번째 ~ 첫 번째 + count - 1)
+     */
+    public long reserve(Long chatRoomId, int count) {
+        ChatSequence sequence = mongoTemplate.findAndModify(
+            Query.query(Criteria.where("_id").is(chatRoomId)),
+            new Update().inc("seq", count),
+            FindAndModifyOptions.options().returnNew(true).upsert(true),
+            ChatSequence.class
+        );
+        return sequence.getSeq() - count + 1;
+    }
+}
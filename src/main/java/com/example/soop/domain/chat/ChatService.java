@@ -6,6 +6,7 @@ import com.example.soop.domain.chat.dto.req.CreateChatRoomInfoRequest;
 import com.example.soop.domain.chat.dto.res.AIChatRoomInfoResponse;
 import com.example.soop.domain.chat.dto.res.AIChatRoomResponse;
 import com.example.soop.domain.chat.dto.res.ChatContentResponse;
+import com.example.soop.domain.chat.dto.res.ChatContentsResponse;
 import com.example.soop.domain.chat.dto.res.ChatRoomResponse;
 import com.example.soop.domain.chat.entity.Chat;
 import com.example.soop.domain.chat.entity.ChatRoom;
@@ -21,16 +22,26 @@ import com.example.soop.domain.chat.type.ToneLevel;
 import com.example.soop.domain.user.User;
 import com.example.soop.domain.user.repository.UserRepository;
 import com.example.soop.global.code.ErrorCode;
+import com.example.soop.global.exception.ChatException;
 import com.example.soop.global.exception.UserException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -42,14 +53,35 @@ public class ChatService {
     private final ChatRoomInfoRepository chatRoomInfoRepository;
     private final MemberShipRepository memberShipRepository;
     private final UserRepository userRepository;
+    private final UnreadCountService unreadCountService;
+    private final ChatWriteBehindBuffer chatWriteBehindBuffer;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatRoomMetadataCache chatRoomMetadataCache;
+    private final ChatRoomBackfillJob chatRoomBackfillJob;
+
+    private static final int MAX_CHAT_PAGE_SIZE = 100;
+
+    @Value("${chat.sync.seq-gap-grace-ms:5000}")
+    private long seqGapGraceMs; // 이 시간보다 오래된 순번 구멍은 저장 실패로 보고 건너뜀
 
     /**
      * 채팅방 생성 또는 조회
+     * - 1:1 채팅방은 pairKey 로 조회, 없으면 생성 (pairKey 가 없던 이전 채팅방은 ChatRoomBackfillJob 이 채움)
+     * - pairKey 보정이 끝나기 전에는 pairKey 조회 실패 시 멤버십으로 이전 채팅방을 찾아 pairKey 를 채움
+     *   (보정 전에 새 채팅방을 만들면 이전 채팅방이 중복으로 남아 대화 기록을 잃음)
+     * - 동시에 같은 채팅방 생성 요청이 들어오면 pairKey 유니크 제약으로 하나만 저장되고, 나머지는 저장된 채팅방 반환
      */
-    @Transactional
     public ChatRoom createOrGetChatRoom(Long userId, ChatRoomIdRequest chatRoomIdRequest) {
-        Optional<ChatRoom> chatRoom = chatRoomRepository.findByUserIdAndTargetUserId(userId,
-            chatRoomIdRequest.targetUserId());
+        Long targetUserId = chatRoomIdRequest.targetUserId();
+        // 여기서 targetUserId가 0이면 챗봇으로 판단 -> 항상 새로 생성
+        if (targetUserId == 0) {
+            return transactionTemplate.execute(status -> createChatRoom(userId, targetUserId, RoomType.USER_TO_BOT, null));
+        }
+
+        RoomType roomType = RoomType.USER_TO_EXPERT; // 관리자와의 대화방 (또는 USER_TO_USER, 상황에 따라)
+        String pairKey = ChatRoom.pairKeyOf(roomType, userId, targetUserId);
+        Optional<ChatRoom> chatRoom = chatRoomRepository.findByPairKey(pairKey)
+            .or(() -> findLegacyChatRoom(userId, targetUserId, pairKey));
 
         // 채팅방이 존재하는 경우
         if (chatRoom.isPresent()) {
@@ -57,29 +89,52 @@ public class ChatService {
         }
 
         // 채팅방이 존재하지 않는 경우 -> 새로 생성
+        try {
+            return transactionTemplate.execute(status -> createChatRoom(userId, targetUserId, roomType, pairKey));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 채팅방을 먼저 생성함
+            return chatRoomRepository.findByPairKey(pairKey).orElseThrow(() -> e);
+        }
+    }
+
+    private ChatRoom createChatRoom(Long userId, Long targetUserId, RoomType roomType, String pairKey) {
         ChatRoom newChatRoom = new ChatRoom();
-        newChatRoom.setTitle("Chat Room between " + userId + " and " + chatRoomIdRequest.targetUserId()); // 제목 설정
+        newChatRoom.setTitle("Chat Room between " + userId + " and " + targetUserId); // 제목 설정
         newChatRoom.setStatus(RoomStatus.ENABLED); // 기본 상태 설정
         newChatRoom.setMessageUpdatedAt(LocalDateTime.now()); // 가장 최근 메시지 도착 시간을 현재 시간으로 설정
-        // 여기서 targetUserId가 0이면 챗봇으로 판단
-        if (chatRoomIdRequest.targetUserId() == 0) {
-            newChatRoom.setRoomType(RoomType.USER_TO_BOT); // 챗봇과의 대화방
-        } else {
-            newChatRoom.setRoomType(RoomType.USER_TO_EXPERT); // 관리자와의 대화방 (또는 USER_TO_USER, 상황에 따라)
-        }
+        newChatRoom.setRoomType(roomType);
+        newChatRoom.setPairKey(pairKey);
 
-        ChatRoom savedChatRoom = chatRoomRepository.save(newChatRoom);
+        ChatRoom savedChatRoom = chatRoomRepository.saveAndFlush(newChatRoom); // 유니크 제약 위반을 여기서 확인
 
-        if (!isUserInChatRoom(userId, savedChatRoom.getId())) {
-            addUserToChatRoom(userId, savedChatRoom.getId());
+        addUserToChatRoom(userId, savedChatRoom.getId());
+        if (targetUserId != 0) {
+            addUserToChatRoom(targetUserId, savedChatRoom.getId());
         }
-        if (chatRoomIdRequest.targetUserId() != 0 && !isUserInChatRoom(chatRoomIdRequest.targetUserId(), savedChatRoom.getId())) {
-            addUserToChatRoom(chatRoomIdRequest.targetUserId(), savedChatRoom.getId());
-        }
-
         return savedChatRoom;
     }
 
+    /**
+     * pairKey 가 없는 이전 채팅방 조회 - 찾으면 pairKey 를 채워서 다음부터는 pairKey 로 조회
+     * - pairKey 보정 작업(ChatRoomBackfillJob)이 끝난 뒤에는 조회하지 않음
+     */
+    private Optional<ChatRoom> findLegacyChatRoom(Long userId, Long targetUserId, String pairKey) {
+        if (chatRoomBackfillJob.isCompleted(ChatRoomBackfillJob.PAIR_KEY_BACKFILL)) {
+            return Optional.empty();
+        }
+        Optional<ChatRoom> chatRoom = chatRoomRepository.findLegacyByUserIdAndTargetUserId(userId, targetUserId)
+            .stream()
+            .findFirst();
+        chatRoom.ifPresent(room -> {
+            try {
+                chatRoomRepository.updatePairKeyIfAbsent(room.getId(), pairKey);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("채팅방 pairKey 저장 실패, chatRoomId: {}", room.getId(), e);
+            }
+        });
+        return chatRoom;
+    }
+
     /**
      * AI 챗봇 "채팅방" 생성 (미리 생성되어 있는 AI 챗봇 ID 사옹)
      */
@@ -130,41 +185,121 @@ public class ChatService {
     }
 
     /**
-     * 채팅방의 채팅 목록 조회
+     * 순번(seq) 이후 메시지만 조회 (재연결 시 놓친 메시지 동기화)
+     * - (chat_room_id, seq) 인덱스 범위 조회, 오래된 순으로 최대 size 개
+     * - 순번은 저장 전에 발급되므로 N+1 이 N 보다 먼저 보일 수 있음
+     *   -> 연속된 순번까지만 반환하고 hasAfter=true (클라이언트는 마지막 seq 로 잠시 후 다시 조회)
+     *   -> 구멍 뒤 메시지가 seq-gap-grace-ms 보다 오래됐으면 저장 실패로 비어 있는 순번으로 보고 건너뜀
+     * - hasAfter 가 true 면 마지막 메시지 seq 로 다시 조회, 이전 메시지는 before 커서로 조회 (hasBefore 는 항상 false)
      */
-    public List<ChatContentResponse> getChatsByRoomId(Long chatRoomId) {
-        List<Chat> chats = chatRepository.findAllByChatRoomIdOrderByCreatedAtAsc(chatRoomId);
-        List<ChatContentResponse> chatContentResponses = chats.stream().map(
-            chat -> new ChatContentResponse(
-                chat.getId(),
-                chat.getChatRoomId(),
-                chat.getSenderId(),
-                chat.getContent(),
-                chat.getCreatedAt()
-            )
-        ).toList();
-        return chatContentResponses;
+    public ChatContentsResponse getChatsSinceSeq(Long chatRoomId, long sinceSeq, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CHAT_PAGE_SIZE);
+        List<Chat> chats = chatRepository.findByChatRoomIdAndSeqGreaterThanOrderBySeqAsc(
+            chatRoomId, sinceSeq, PageRequest.of(0, pageSize + 1));
+
+        LocalDateTime settledBefore = LocalDateTime.now().minus(Duration.ofMillis(seqGapGraceMs));
+        List<Chat> page = new ArrayList<>();
+        boolean hasMore = false;
+        long expected = sinceSeq + 1;
+        for (Chat chat : chats) {
+            if (page.size() == pageSize) {
+                hasMore = true;
+                break;
+            }
+            if (chat.getSeq() != expected && chat.getCreatedAt().isAfter(settledBefore)) {
+                hasMore = true; // 앞 순번이 아직 저장 중일 수 있음
+                break;
+            }
+            page.add(chat);
+            expected = chat.getSeq() + 1;
+        }
+        return new ChatContentsResponse(
+            page.stream().map(this::toChatContentResponse).toList(),
+            page.isEmpty() ? null : ChatCursor.encode(page.get(0)),
+            page.isEmpty() ? null : ChatCursor.encode(page.get(page.size() - 1)),
+            false,
+            hasMore
+        );
+    }
+
+    /**
+     * 채팅방의 채팅 목록 조회 (keyset 페이지네이션)
+     * - 커서가 없으면 가장 최신 메시지 size 개
+     * - before: 커서보다 오래된 메시지, after: 커서보다 최신 메시지
+     * - 어느 경우든 (chat_room_id, created_at, _id) 인덱스 범위 조회 한 번으로 처리
+     */
+    public ChatContentsResponse getChatsByRoomId(Long chatRoomId, String before, String after, int size) {
+        if (before != null && after != null) {
+            throw new ChatException(ErrorCode.CHAT_CURSOR_INVALID);
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_CHAT_PAGE_SIZE);
+        PageRequest limit = PageRequest.of(0, pageSize + 1); // 다음 페이지 존재 여부 확인용 1개 추가 조회
+
+        List<Chat> chats;
+        if (after != null) {
+            ChatCursor cursor = ChatCursor.decode(after);
+            chats = chatRepository.findAfter(chatRoomId, cursor.createdAt(), cursor.chatId(), limit);
+        } else if (before != null) {
+            ChatCursor cursor = ChatCursor.decode(before);
+            chats = chatRepository.findBefore(chatRoomId, cursor.createdAt(), cursor.chatId(), limit);
+        } else {
+            chats = chatRepository.findByChatRoomIdOrderByCreatedAtDescIdDesc(chatRoomId, limit);
+        }
+
+        boolean hasMore = chats.size() > pageSize;
+        List<Chat> page = new ArrayList<>(hasMore ? chats.subList(0, pageSize) : chats);
+        if (after == null) {
+            Collections.reverse(page); // 내림차순으로 조회한 경우 오래된 순으로 정렬
+        }
+
+        List<ChatContentResponse> chatContentResponses = page.stream().map(this::toChatContentResponse).toList();
+
+        return new ChatContentsResponse(
+            chatContentResponses,
+            page.isEmpty() ? before : ChatCursor.encode(page.get(0)),
+            page.isEmpty() ? after : ChatCursor.encode(page.get(page.size() - 1)),
+            after != null || hasMore,
+            after != null ? hasMore : before != null
+        );
+    }
+
+    private ChatContentResponse toChatContentResponse(Chat chat) {
+        return new ChatContentResponse(
+            chat.getId(),
+            chat.getChatRoomId(),
+            chat.getSenderId(),
+            chat.getContent(),
+            chat.getCreatedAt(),
+            chat.getSeq()
+        );
     }
 
 
     /**
      * 사용자-사용자간 채팅방 조회
+     * - 내 membership 목록(채팅방, 최근 메시지 스냅샷, 읽음 위치 포함), 대화 상대(fetch join) 각각 한 번씩 조회
      */
     public List<ChatRoomResponse> getUserChatRooms(Long userId) {
-        List<ChatRoom> chatRooms = chatRoomRepository.findAllByUserIdAndRoomTypeOrderByMessageUpdatedAtDesc(
+        List<Membership> myMemberships = memberShipRepository.findAllWithChatRoomByUserIdAndRoomType(
             userId, RoomType.USER_TO_EXPERT);
+        if (myMemberships.isEmpty()) {
+            return List.of();
+        }
+        List<ChatRoom> chatRooms = myMemberships.stream().map(Membership::getChatRoom).toList();
+        List<Long> chatRoomIds = chatRooms.stream().map(ChatRoom::getId).toList();
 
-        List<ChatRoomResponse> responses = new ArrayList<>();
-        for (ChatRoom chatRoom : chatRooms) {
-            Optional<Chat> latestChat = chatRepository.findTopByChatRoomIdOrderByCreatedAtDesc(chatRoom.getId());
-
-            String latestContent = latestChat.map(Chat::getContent).orElse("대화 기록이 없습니다.");
+        Map<Long, Long> unreadCounts = unreadCountService.getUnreadCounts(userId);
 
-            // 상대방 찾기
-            List<Membership> memberships = memberShipRepository.findMembershipsByChatRoomIdAndExcludeUser(chatRoom.getId(), userId);
-            if (memberships.isEmpty()) continue;
+        // 상대방 찾기
+        Map<Long, User> targetUsers = new HashMap<>();
+        memberShipRepository.findAllWithUserByChatRoomIdInAndExcludeUser(chatRoomIds, userId)
+            .forEach(membership -> targetUsers.putIfAbsent(membership.getChatRoom().getId(), membership.getUser()));
 
-            User targetUser = memberships.get(0).getUser();
+        List<ChatRoomResponse> responses = new ArrayList<>();
+        for (Membership myMembership : myMemberships) {
+            ChatRoom chatRoom = myMembership.getChatRoom();
+            User targetUser = targetUsers.get(chatRoom.getId());
+            if (targetUser == null) continue;
 
             responses.add(new ChatRoomResponse(
                 chatRoom.getId(),
@@ -172,9 +307,10 @@ public class ChatService {
                 targetUser.getEmail(),
                 targetUser.getNickname(),
                 chatRoom.getTitle(),
-                latestContent,
+                latestContentOf(chatRoom),
                 chatRoom.getMessageUpdatedAt(),
-                checkIsNew(chatRoom.getId(), userId),
+                chatRoom.hasUnreadFor(myMembership), // 내 읽음 위치와 최근 메시지 비교
+                unreadCounts.getOrDefault(chatRoom.getId(), 0L),
                 chatRoom.getStatus(),
                 0
             ));
@@ -184,42 +320,61 @@ public class ChatService {
 
     /**
      * 사용자-챗봇간 채팅방 조회
+     * - 채팅방 목록(챗봇 정보 fetch join, 최근 메시지 스냅샷 포함) 한 번 조회
      */
     public List<AIChatRoomResponse> getAIChatRooms(Long userId) {
         List<ChatRoom> chatRooms = chatRoomRepository.findAllByUserIdAndRoomTypeOrderByMessageUpdatedAtDesc(
             userId, RoomType.USER_TO_BOT);
-
-        List<AIChatRoomResponse> responses = new ArrayList<>();
-        for (ChatRoom chatRoom : chatRooms) {
-            Optional<Chat> latestChat = chatRepository.findTopByChatRoomIdOrderByCreatedAtDesc(chatRoom.getId());
-            String latestContent = latestChat.map(Chat::getContent).orElse("대화 기록이 없습니다.");
-
-            // AIChatRoomInfo 가져오기
-            ChatRoomInfo chatRoomInfo = chatRoom.getChatRoomInfo();
-
-            responses.add(new AIChatRoomResponse(
-                chatRoom.getId(),
-                chatRoomInfo.getName(),
-                chatRoomInfo.getDescription(),
-                chatRoomInfo.getEmpathyLevel(),
-                chatRoomInfo.getTone(),
-                latestContent,
-                chatRoom.getMessageUpdatedAt(),
-                chatRoom.getStatus(),
-                chatRoomInfo.getImage()
-            ));
+        if (chatRooms.isEmpty()) {
+            return List.of();
         }
-        return responses;
+        Map<Long, Long> unreadCounts = unreadCountService.getUnreadCounts(userId);
+        return chatRooms.stream()
+            .map(chatRoom -> toAIChatRoomResponse(chatRoom, unreadCounts.getOrDefault(chatRoom.getId(), 0L)))
+            .toList();
     }
 
+    private AIChatRoomResponse toAIChatRoomResponse(ChatRoom chatRoom, long unreadCount) {
+        // AIChatRoomInfo 가져오기
+        ChatRoomInfo chatRoomInfo = chatRoom.getChatRoomInfo();
+        if (chatRoomInfo == null) {
+            // 챗봇 정보 없이 만들어진 채팅방 (createOrGetChatRoom, targetUserId=0) - 목록에서 빠지지 않도록 챗봇 정보만 비움
+            return new AIChatRoomResponse(chatRoom.getId(), null, null, null, null, latestContentOf(chatRoom),
+                chatRoom.getMessageUpdatedAt(), chatRoom.getStatus(), unreadCount, 0);
+        }
+
+        return new AIChatRoomResponse(
+            chatRoom.getId(),
+            chatRoomInfo.getName(),
+            chatRoomInfo.getDescription(),
+            chatRoomInfo.getEmpathyLevel(),
+            chatRoomInfo.getTone(),
+            latestContentOf(chatRoom),
+            chatRoom.getMessageUpdatedAt(),
+            chatRoom.getStatus(),
+            unreadCount,
+            chatRoomInfo.getImage()
+        );
+    }
 
+    private String latestContentOf(ChatRoom chatRoom) {
+        return chatRoom.getLastMessageId() != null ? chatRoom.getLastMessagePreview() : "대화 기록이 없습니다.";
+    }
 
+    /**
+     * 채팅 저장 (write-behind) - MongoDB 저장이 끝나면 완료되는 future 반환
+     * - 채팅방 최근 메시지 스냅샷, 안 읽은 메시지 수도 함께 갱신됨
+     * - 발행은 future 완료 후에 할 것 (저장되지 않은 메시지가 발행되지 않도록)
+     */
+    public CompletableFuture<Chat> saveChatAsync(Chat chat) {
+        return chatWriteBehindBuffer.enqueue(chat);
+    }
 
     /**
-     * 채팅 저장
+     * 채팅 저장 - 저장이 끝날 때까지 대기 (이벤트 루프/inbound 스레드에서 호출 금지)
      */
     public Chat saveChat(Chat chat) {
-        return chatRepository.save(chat);
+        return saveChatAsync(chat).join();
     }
 
     /**
@@ -230,7 +385,9 @@ public class ChatService {
             .orElseThrow(() -> new UserException(ErrorCode.USER_NOT_FOUND));
         ChatRoom chatRoom = getChatRoom(chatRoomId);
 
-        return memberShipRepository.save(new Membership(user, chatRoom));
+        Membership membership = memberShipRepository.save(new Membership(user, chatRoom));
+        chatRoomMetadataCache.evict(chatRoomId); // 멤버 목록 변경
+        return membership;
     }
 
     /**
@@ -248,61 +405,62 @@ public class ChatService {
             .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
     }
 
-    /**
-     * 채팅방 최근 메시지 시간 업데이트
-     */
-    @Transactional
-    public void updateChatRoomMessageUpdatedTime(Long chatRoomId) {
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId).get();
-        chatRoom.updateMessageUpdatedAt();
-    }
-
-    /**
-     * 특정 채팅방의 가장 최근 메시지가 상대방이 보낸 것이면서, 읽지 않은 경우 확인
-     */
-    public Boolean checkIsNew(Long chatRoomId, Long myId) {
-        Optional<Chat> topChat = chatRepository.findTopByChatRoomIdOrderByCreatedAtDesc(chatRoomId);
-        return topChat
-            .filter(chat -> !chat.getSenderId().equals(myId)) // senderId(Long) 비교
-            .filter(chat -> Boolean.FALSE.equals(chat.getIsRead()))
-            .isPresent();
-    }
-
     /**
      * 채팅방의 상대방이 보낸 메시지 모두 읽음 처리
+     * - 내 읽음 위치를 채팅방의 가장 최근 메시지로 이동 (UPDATE 한 번)
+     * - 안 읽은 메시지 수는 이번에 새로 읽은 메시지 수만큼 감소 (그 사이 도착한 메시지는 남음)
      * userId - 나의 ID
      */
     @Transactional
     public void makeAllChatRead(Long chatRoomId, Long userId) {
-        List<Membership> memberships = memberShipRepository.findMembershipsByChatRoomIdAndExcludeUser(
-            chatRoomId, userId);
-        // 해당 채팅방의 상대방 조회
-        User appositeUser = memberships.get(0).getUser();
-        // 상대방이 보낸 모든 메시지 조회
-        List<Chat> chatsByAppositeUser = chatRepository.findAllByChatRoomIdAndSenderId(
-            chatRoomId, appositeUser.getId());
-        // 상대방이 보낸 모든 메시지 읽음 처리
-        chatsByAppositeUser.stream().forEach(chat -> chat.setIsRead(true));
+        ChatRoom chatRoom = getChatRoom(chatRoomId);
+        if (chatRoom.getLastMessageId() == null) {
+            return; // 대화 기록 없음
+        }
+        long readCount = markReadUpTo(chatRoomId, userId, chatRoom.getLastMessageId(), chatRoom.getLastMessageAt());
+        unreadCountService.decrement(chatRoomId, userId, readCount);
     }
 
     /**
      * (현재 채팅방일때 프론트엔드가 호출) 상대방이 보낸 특정 메시지 읽음 처리
+     * - 해당 메시지까지 읽은 것으로 읽음 위치 이동
      */
     @Transactional
     public void makeChatRead(Long chatRoomId, String chatId, Long myId) {
         Chat chat = chatRepository.findByIdAndChatRoomId(chatId, chatRoomId).get();
         // 내가 아니라, 상대방이 보낸 메시지인 경우 읽음 처리
         if(!chat.getSenderId().equals(myId)){
-            chat.setIsRead(true);
+            LocalDateTime readAt = chat.getCreatedAt().truncatedTo(ChronoUnit.MILLIS);
+            // 읽음 위치까지 새로 읽은 메시지 수만큼 감소 (읽음 위치 이후 메시지는 그대로 남음)
+            long readCount = markReadUpTo(chatRoomId, myId, chat.getId(), readAt);
+            unreadCountService.decrement(chatRoomId, myId, readCount);
+        }
+    }
+
+    /**
+     * 읽음 위치 이동 - 이번에 새로 읽음 처리된 메시지 수 반환 (이동하지 않았으면 0)
+     */
+    private long markReadUpTo(Long chatRoomId, Long userId, String messageId, LocalDateTime readAt) {
+        // 이미 더 뒤까지 읽은 경우 갱신되지 않음 -> 메시지 플래그도 건드릴 필요 없음
+        if (memberShipRepository.advanceReadWatermark(chatRoomId, userId, messageId, readAt) == 0) {
+            return 0;
         }
+        // 메시지별 is_read 플래그는 updateMany 한 번으로 맞춰 둠 -> 바뀐 문서 수 = 새로 읽은 메시지 수
+        return chatRepository.markReadUpTo(chatRoomId, userId, readAt);
     }
 
     /**
      * 채팅방 룸 타입 반환 (USER_TO_USER / USER_TO_BOT / USER_TO_ADMIN)
      */
     public RoomType getRoomType(Long chatRoomId) {
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId).get();
-        return chatRoom.getRoomType();
+        return chatRoomMetadataCache.get(chatRoomId).roomType();
+    }
+
+    /**
+     * AI 채팅방 챗봇 성격 (캐시 조회, AI 채팅방이 아니면 null)
+     */
+    public ChatBotPersona getChatBotPersona(Long chatRoomId) {
+        return chatRoomMetadataCache.get(chatRoomId).persona();
     }
 
     /**
@@ -390,25 +548,8 @@ public class ChatService {
         return chatRoom;
     }
 
-    public AIChatRoomResponse getAIChatRoom(Long roomId) {
+    public AIChatRoomResponse getAIChatRoom(Long userId, Long roomId) {
         ChatRoom chatRoom = chatRoomRepository.findById(roomId).get();
-        Optional<Chat> latestChat = chatRepository.findTopByChatRoomIdOrderByCreatedAtDesc(chatRoom.getId());
-        String latestContent = latestChat.map(Chat::getContent).orElse("대화 기록이 없습니다.");
-
-        // AIChatRoomInfo 가져오기
-        ChatRoomInfo chatRoomInfo = chatRoom.getChatRoomInfo();
-
-        AIChatRoomResponse response = new AIChatRoomResponse(
-            chatRoom.getId(),
-            chatRoomInfo.getName(),
-            chatRoomInfo.getDescription(),
-            chatRoomInfo.getEmpathyLevel(),
-            chatRoomInfo.getTone(),
-            latestContent,
-            chatRoom.getMessageUpdatedAt(),
-            chatRoom.getStatus(),
-            chatRoomInfo.getImage()
-        );
-        return response;
+        return toAIChatRoomResponse(chatRoom, unreadCountService.getUnreadCount(userId, roomId));
     }
 }
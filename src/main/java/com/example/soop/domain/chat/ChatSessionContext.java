@@ -0,0 +1,22 @@
+package com.example.soop.domain.chat;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * WebSocket 연결 동안 유지되는 채팅 컨텍스트 (세션 속성 chatContext 에 보관)
+ * - 메시지를 보낸 적 있는 채팅방 중 멤버임이 확인된 채팅방과 방 종류
+ * - 채팅방 변경 이벤트를 받으면 해당 채팅방만 지워서 다음 메시지에서 다시 확인
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatSessionContext {
+
+    public static final String ATTRIBUTE = "chatContext";
+
+    private final String sessionId;
+    private final Long userId;
+    private final Map<Long, RoomType> rooms = new ConcurrentHashMap<>(); // chatRoomId -> RoomType (멤버 확인된 채팅방만)
+}
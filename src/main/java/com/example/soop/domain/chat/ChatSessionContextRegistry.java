@@ -0,0 +1,57 @@
+package com.example.soop.domain.chat;
+
+import com.example.soop.global.code.ErrorCode;
+import com.example.soop.global.exception.ChatException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * 이 서버의 WebSocket 세션별 채팅 컨텍스트 관리
+ * - CONNECT 시 생성 (JwtChannelInterceptor), DISCONNECT 시 제거
+ * - 채팅방 권한/종류는 처음 사용할 때 ChatRoomMetadataCache 로 확인 후 컨텍스트에 보관
+ *   -> 같은 채팅방에 계속 보내는 메시지는 DB, 캐시 조회 없이 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSessionContextRegistry {
+
+    private final ChatRoomMetadataCache chatRoomMetadataCache;
+
+    private final Map<String, ChatSessionContext> contexts = new ConcurrentHashMap<>(); // sessionId -> context
+
+    public ChatSessionContext open(String sessionId, Long userId) {
+        ChatSessionContext context = new ChatSessionContext(sessionId, userId);
+        contexts.put(sessionId, context);
+        return context;
+    }
+
+    /**
+     * 채팅방 멤버인지 확인하고 채팅방 종류 반환 - 멤버가 아니면 CHAT_ROOM_FORBIDDEN
+     */
+    public RoomType authorize(ChatSessionContext context, Long chatRoomId) {
+        RoomType roomType = context.getRooms().get(chatRoomId);
+        if (roomType != null) {
+            return roomType;
+        }
+        ChatRoomMetadata metadata = chatRoomMetadataCache.get(chatRoomId);
+        if (!metadata.isMember(context.getUserId())) {
+            throw new ChatException(ErrorCode.CHAT_ROOM_FORBIDDEN);
+        }
+        context.getRooms().put(chatRoomId, metadata.roomType());
+        return metadata.roomType();
+    }
+
+    @EventListener
+    public void onRoomChanged(ChatRoomChangedEvent event) {
+        contexts.values().forEach(context -> context.getRooms().remove(event.chatRoomId()));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        contexts.remove(event.getSessionId());
+    }
+}
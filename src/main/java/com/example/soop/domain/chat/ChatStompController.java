@@ -1,14 +1,12 @@
 package com.example.soop.domain.chat;
 
 import com.example.soop.domain.chat.dto.req.ChatRequest;
+import com.example.soop.domain.chat.dto.req.ChatStopRequest;
 import com.example.soop.domain.chat.dto.res.ChatContentResponse;
 import com.example.soop.domain.chat.entity.Chat;
 import com.example.soop.global.redis.RedisPublisher;
 import com.example.soop.global.util.AIService;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -22,44 +20,56 @@ import org.springframework.stereotype.Controller;
 public class ChatStompController {
 
     private final ChatService chatService;
+    private final ChatSessionContextRegistry chatSessionContextRegistry;
     private final AIService AIService;
     private final RedisPublisher redisPublisher; // Redis 발행기
 
     @MessageMapping("/chat")
     public void handleChat(Message<?> message, ChatRequest chatRequest) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
-        Long userId = (Long) accessor.getSessionAttributes().get("userId");
+        ChatSessionContext context = (ChatSessionContext) accessor.getSessionAttributes().get(ChatSessionContext.ATTRIBUTE);
+        Long userId = context.getUserId();
         Long chatRoomId = chatRequest.chatRoomId();
 
         log.info("CHAT message, chatRequest: {}", chatRequest);
 
-        // 1. 사용자 메시지 저장 + 발행 (바로!)
-        handleUserMessage(chatRequest, chatRoomId, userId);
+        // 1. 채팅방 멤버 확인 + RoomType 확인 (세션 컨텍스트에 보관, 이후 메시지는 조회 없음)
+        RoomType roomType = chatSessionContextRegistry.authorize(context, chatRoomId);
 
-        // 2. RoomType 확인
-        RoomType roomType = chatService.getRoomType(chatRoomId);
+        // 2. 사용자 메시지 저장 요청 (write-behind, 저장 완료 후 발행)
+        CompletableFuture<Chat> savedChat = handleUserMessage(chatRequest, chatRoomId, userId);
 
         // 3. RoomType 별 처리
         if (roomType == RoomType.USER_TO_BOT) {
-            // 대화 이력 가져오기 (최근 N개 메시지)
-            List<Map<String, String>> conversationHistory = getConversationHistory(chatRoomId);
+            // GPT 응답은 "비동기"로 처리 - 사용자 메시지가 저장된 뒤 대화 이력과 함께 생성
+            // (연달아 보낸 메시지는 AIService 에서 채팅방별로 모아 한 번에 응답, 대기열이 가득 찬 경우 busy 메시지로 대체)
+            savedChat.thenRun(() -> AIService.generateAndPublishResponseAsync(chatRoomId, chatRequest.content()));
 
-            // GPT 응답은 "비동기"로 처리 - 개선된 버전 호출
-            AIService.generateAndPublishResponseAsync(chatRoomId, chatRequest.content(), conversationHistory);
-
-            // 스트리밍 응답을 사용하고 싶은 경우 아래 코드 사용
-            // gptService.callOpenAiWithStreaming(chatRoomId, chatRequest.content(), conversationHistory);
+            // 스트리밍 응답 여부는 chat.ai.streaming.enabled 설정으로 결정 (AIService 내부에서 분기)
         } else if (roomType == RoomType.USER_TO_EXPERT) {
             // 관리자 채팅은 추가 처리 없음
         } else {
             throw new IllegalStateException("지원하지 않는 RoomType 입니다: " + roomType);
         }
+    }
+
+    /**
+     * AI 응답 생성 중단 요청 (/pub/chat/stop)
+     * - 진행 중인 생성과 아직 시작 전인 대기 메시지 모두 취소
+     */
+    @MessageMapping("/chat/stop")
+    public void handleStop(Message<?> message, ChatStopRequest chatStopRequest) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        ChatSessionContext context = (ChatSessionContext) accessor.getSessionAttributes().get(ChatSessionContext.ATTRIBUTE);
+        Long chatRoomId = chatStopRequest.chatRoomId();
 
-        // 4. 최근 채팅방 업데이트
-        chatService.updateChatRoomMessageUpdatedTime(chatRoomId);
+        RoomType roomType = chatSessionContextRegistry.authorize(context, chatRoomId);
+        if (roomType == RoomType.USER_TO_BOT) {
+            AIService.cancelReply(chatRoomId, "stopped");
+        }
     }
 
-    private void handleUserMessage(ChatRequest chatRequest, Long chatRoomId, Long userId) {
+    private CompletableFuture<Chat> handleUserMessage(ChatRequest chatRequest, Long chatRoomId, Long userId) {
         Chat chat = Chat.builder()
             .chatRoomId(chatRoomId)
             .senderId(userId)
@@ -67,43 +77,22 @@ public class ChatStompController {
             .isRead(false)
             .build();
 
-        Chat savedChat = chatService.saveChat(chat);
-
-        ChatContentResponse response = new ChatContentResponse(
-            savedChat.getId(),
-            chatRoomId,
-            userId,
-            savedChat.getContent(),
-            savedChat.getCreatedAt()
-        );
-
-        redisPublisher.publish(response); // 저장과 동시에 Publish
-    }
-
-    /**
-     * 대화 이력을 가져오는 메소드
-     * 최근 N개의 메시지를 가져와 OpenAI API 형식에 맞게 변환
-     */
-    private List<Map<String, String>> getConversationHistory(Long chatRoomId) {
-        // 최근 대화 이력 조회 (예: 최근 10개)
-        List<Chat> recentChats = chatService.getRecentChats(chatRoomId, 10);
-        List<Map<String, String>> conversationHistory = new ArrayList<>();
-
-        for (Chat chat : recentChats) {
-            Map<String, String> message = new HashMap<>();
-
-            // 사용자 메시지와 AI 메시지 구분
-            if (chat.getSenderId() > 0) { // 사용자 메시지
-                message.put("role", "user");
-            } else { // AI 메시지
-                message.put("role", "assistant");
-            }
-
-            message.put("content", chat.getContent());
-            conversationHistory.add(message);
-        }
-
-        return conversationHistory;
+        return chatService.saveChatAsync(chat)
+            .whenComplete((savedChat, e) -> {
+                if (e != null) {
+                    log.error("사용자 메시지 저장 실패, chatRoomId: {}", chatRoomId, e);
+                    return;
+                }
+                ChatContentResponse response = new ChatContentResponse(
+                    savedChat.getId(),
+                    chatRoomId,
+                    userId,
+                    savedChat.getContent(),
+                    savedChat.getCreatedAt(),
+                    savedChat.getSeq()
+                );
+                redisPublisher.publish(response); // 저장이 끝난 메시지만 Publish
+            });
     }
 
 }
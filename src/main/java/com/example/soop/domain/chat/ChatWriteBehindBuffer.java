@@ -0,0 +1,302 @@
+package com.example.soop.domain.chat;
+
+import com.example.soop.domain.chat.entity.Chat;
+import com.example.soop.domain.chat.entity.ChatRoom;
+import com.example.soop.domain.chat.repository.ChatRepository;
+import com.example.soop.domain.chat.repository.ChatRoomRepository;
+import com.example.soop.global.code.ErrorCode;
+import com.example.soop.global.exception.ChatException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 write-behind 버퍼
+ * - 여러 스레드에서 들어온 메시지를 모아 MongoDB insertMany 한 번으로 저장
+ * - 저장 전에 채팅방별 순번(seq)을 한 번에 예약해서 들어온 순서대로 부여
+ * - 채팅방 최근 메시지 스냅샷(messageUpdatedAt 포함)은 flush 마다 채팅방당 UPDATE 한 번
+ * - 안 읽은 메시지 수는 flush 마다 (채팅방, 유저)당 HINCRBY 한 번
+ * - 반환된 future 는 MongoDB 저장이 끝난 뒤에 완료됨 -> 완료 후에 발행하면 "저장된 메시지만 발행" 보장
+ * - future 는 flush 스레드에서 저장 순서대로 완료되므로 콜백은 짧게 유지할 것
+ * - 저장은 flush 스레드에서만 실행 (순서 유지) -> 대기열이 가득 차면 호출 스레드(STOMP inbound)를 막지 않고 즉시 거절
+ * - flush 중 예외가 나도 해당 배치만 실패 처리하고 flush 스레드는 계속 실행
+ * - _id 를 저장 전에 부여 -> 배치 일부만 저장된 뒤 재시도해도 같은 메시지가 두 번 저장되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatWriteBehindBuffer {
+
+    private final ChatRepository chatRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatSequenceService chatSequenceService;
+    private final UnreadCountService unreadCountService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.write.flush-interval-ms:10}")
+    private long flushIntervalMs; // 첫 메시지 이후 배치를 모으는 최대 시간 (= 추가 지연 상한)
+
+    @Value("${chat.write.max-batch-size:256}")
+    private int maxBatchSize;
+
+    @Value("${chat.write.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat.write.seq-reserve-attempts:3}")
+    private int seqReserveAttempts;
+
+    private BlockingQueue<PendingChat> queue;
+    private Thread flusher;
+    private DistributionSummary batchSize;
+    private volatile boolean running = true;
+
+    @PostConstruct
+    void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        batchSize = DistributionSummary.builder("chat.write.batch.size")
+            .description("insertMany 한 번에 저장된 채팅 메시지 수")
+            .register(meterRegistry);
+        meterRegistry.gauge("chat.write.queue.size", queue, BlockingQueue::size);
+
+        flusher = new Thread(this::runFlushLoop, "chat-write-behind");
+        flusher.setDaemon(false);
+        flusher.start();
+    }
+
+    /**
+     * 저장 요청 - MongoDB 저장 완료 시 저장된 Chat 으로 완료되는 future 반환
+     * - 대기열이 가득 차 있거나 종료 중이면 기다리지 않고 CHAT_WRITE_UNAVAILABLE 로 실패
+     */
+    public CompletableFuture<Chat> enqueue(Chat chat) {
+        PendingChat pending = new PendingChat(chat, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            reject(pending);
+        }
+        return pending.future();
+    }
+
+    private void reject(PendingChat pending) {
+        meterRegistry.counter("chat.write.rejected").increment();
+        log.warn("채팅 저장 요청 거절 (대기열 초과 또는 종료 중), chatRoomId: {}", pending.chat().getChatRoomId());
+        pending.future().completeExceptionally(new ChatException(ErrorCode.CHAT_WRITE_UNAVAILABLE));
+    }
+
+    private void runFlushLoop() {
+        List<PendingChat> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingChat first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingChat next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 남은 메시지는 아래 flush 와 다음 루프에서 모두 저장
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                try {
+                    flush(batch);
+                } catch (Throwable e) {
+                    // flush 스레드가 죽으면 이후 모든 저장 요청이 거절되므로 이 배치만 실패 처리하고 계속 실행
+                    log.error("채팅 배치 저장 중 예외, 배치 실패 처리 (size: {})", batch.size(), e);
+                    failAll(batch);
+                }
+                batch = new ArrayList<>(maxBatchSize);
+            }
+        }
+    }
+
+    /**
+     * 아직 완료되지 않은 future 만 실패 처리 (이미 완료된 future 는 그대로)
+     */
+    private void failAll(List<PendingChat> batch) {
+        for (PendingChat pending : batch) {
+            pending.future().completeExceptionally(new ChatException(ErrorCode.CHAT_WRITE_UNAVAILABLE));
+        }
+    }
+
+    private void flush(List<PendingChat> batch) {
+        assignIds(batch.stream().map(PendingChat::chat).toList());
+        batch = assignSequences(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Chat> chats = batch.stream().map(PendingChat::chat).toList();
+        try {
+            chatRepository.insert(chats); // insertMany
+            batchSize.record(chats.size());
+        } catch (Exception e) {
+            // 일부 문서 때문에 배치 전체가 실패하지 않도록 한 건씩 재시도
+            // insertMany 는 순서대로 저장하다 멈추므로 앞부분은 이미 저장됐을 수 있음 -> _id 중복은 저장 성공으로 처리
+            log.warn("채팅 배치 저장 실패, 개별 저장으로 재시도 (size: {})", chats.size(), e);
+            List<PendingChat> saved = new ArrayList<>();
+            for (PendingChat pending : batch) {
+                try {
+                    chatRepository.insert(pending.chat());
+                    saved.add(pending);
+                } catch (DuplicateKeyException ex) {
+                    saved.add(pending); // 배치 저장에서 이미 저장된 메시지
+                } catch (Exception ex) {
+                    log.error("채팅 저장 실패, chatRoomId: {}", pending.chat().getChatRoomId(), ex);
+                    pending.future().completeExceptionally(ex);
+                }
+            }
+            batch = saved;
+            chats = saved.stream().map(PendingChat::chat).toList();
+        }
+
+        updateRooms(chats);
+
+        for (PendingChat pending : batch) {
+            pending.future().complete(pending.chat());
+        }
+    }
+
+    /**
+     * 저장 전에 _id 부여 (재시도 시 같은 문서로 인식되도록)
+     */
+    private void assignIds(List<Chat> chats) {
+        for (Chat chat : chats) {
+            if (chat.getId() == null) {
+                chat.setId(new ObjectId().toHexString());
+            }
+        }
+    }
+
+    /**
+     * 채팅방별 순번 예약(채팅방당 한 번) 후 배치 순서대로 부여
+     * - 예약이 seq-reserve-attempts 번 모두 실패한 채팅방의 메시지는 저장하지 않고 실패 처리
+     *   (순번 없이 저장하면 seq 기반 동기화에서 영영 조회되지 않음)
+     * @return 순번이 부여된 메시지 (원래 순서 유지)
+     */
+    private List<PendingChat> assignSequences(List<PendingChat> batch) {
+        Set<Long> failedRooms = new HashSet<>();
+        groupByRoom(batch.stream().map(PendingChat::chat).toList()).forEach((chatRoomId, roomChats) -> {
+            try {
+                long next = reserveSequences(chatRoomId, roomChats.size());
+                for (Chat chat : roomChats) {
+                    chat.setSeq(next++);
+                }
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt(); // 종료 요청 -> flush 루프에서 처리
+                }
+                log.error("채팅 순번 발급 실패, 저장하지 않음, chatRoomId: {}, size: {}", chatRoomId, roomChats.size(), e);
+                failedRooms.add(chatRoomId);
+            }
+        });
+        if (failedRooms.isEmpty()) {
+            return batch;
+        }
+        List<PendingChat> assigned = new ArrayList<>(batch.size());
+        for (PendingChat pending : batch) {
+            if (failedRooms.contains(pending.chat().getChatRoomId())) {
+                pending.future().completeExceptionally(new ChatException(ErrorCode.CHAT_WRITE_UNAVAILABLE));
+            } else {
+                assigned.add(pending);
+            }
+        }
+        return assigned;
+    }
+
+    private long reserveSequences(Long chatRoomId, int count) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return chatSequenceService.reserve(chatRoomId, count);
+            } catch (Exception e) {
+                if (attempt >= seqReserveAttempts) {
+                    throw e;
+                }
+                log.warn("채팅 순번 발급 실패, 재시도 ({}/{}), chatRoomId: {}", attempt, seqReserveAttempts, chatRoomId, e);
+                Thread.sleep(50L * attempt);
+            }
+        }
+    }
+
+    /**
+     * 채팅방별로 모아서 최근 메시지 스냅샷, 안 읽은 메시지 수 갱신
+     */
+    private void updateRooms(List<Chat> chats) {
+        groupByRoom(chats).forEach((chatRoomId, roomChats) -> {
+            // 스냅샷보다 먼저 증가 -> 스냅샷을 보고 "모두 읽음" 처리한 감소가 증가보다 앞서지 않음
+            try {
+                unreadCountService.increment(chatRoomId, roomChats.stream().map(Chat::getSenderId).toList());
+            } catch (Exception e) {
+                log.warn("안 읽은 메시지 수 갱신 실패, chatRoomId: {}", chatRoomId, e);
+            }
+            try {
+                Chat latest = roomChats.stream()
+                    .max(Comparator.comparing(Chat::getCreatedAt).thenComparing(Chat::getId))
+                    .orElseThrow();
+                // MongoDB 날짜 정밀도(ms)에 맞춰 비교
+                chatRoomRepository.updateLastMessageIfNewer(
+                    chatRoomId,
+                    latest.getId(),
+                    ChatRoom.toPreview(latest.getContent()),
+                    latest.getSenderId(),
+                    latest.getCreatedAt().truncatedTo(ChronoUnit.MILLIS)
+                );
+            } catch (Exception e) {
+                log.warn("채팅방 최근 메시지 스냅샷 갱신 실패, chatRoomId: {}", chatRoomId, e);
+            }
+        });
+    }
+
+    private Map<Long, List<Chat>> groupByRoom(List<Chat> chats) {
+        Map<Long, List<Chat>> chatsByRoom = new LinkedHashMap<>();
+        for (Chat chat : chats) {
+            chatsByRoom.computeIfAbsent(chat.getChatRoomId(), id -> new ArrayList<>()).add(chat);
+        }
+        return chatsByRoom;
+    }
+
+    /**
+     * 종료 시 대기 중인 메시지 모두 저장
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false; // flush 중 I/O 가 끊기지 않도록 interrupt 대신 플래그로 종료
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+        if (flusher.isAlive()) {
+            log.warn("채팅 write-behind 종료 대기 시간 초과, 남은 메시지: {}", queue.size());
+            return;
+        }
+        // 종료 직전에 들어온 요청은 완료되지 않은 채로 남지 않도록 실패 처리
+        List<PendingChat> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(this::reject);
+    }
+
+    private record PendingChat(Chat chat, CompletableFuture<Chat> future) {
+
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.soop.domain.chat;
+
+import com.example.soop.domain.chat.dto.res.UnreadCountResponse;
+import com.example.soop.domain.chat.repository.MemberShipRepository;
+import com.example.soop.global.redis.RedisPublisher;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅방별 안 읽은 메시지 수 (Redis Hash)
+ * - key: chat:unread:{userId}, field: chatRoomId, value: 안 읽은 메시지 수
+ * - 메시지 도착 시 HINCRBY, 읽음 처리 시 새로 읽은 메시지 수만큼 원자적으로 감소 -> MongoDB count 불필요
+ * - 값이 바뀔 때마다 /sub/users/{userId}/unread 로 발행 (본인만 구독 가능, UserSubscriptionInterceptor)
+ * - Redis 오류는 채팅 저장을 막지 않도록 로그만 남김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCountService {
+
+    private static final String KEY_PREFIX = "chat:unread:";
+
+    // HINCRBY -readCount 후 0 이하면 HDEL (Redis 유실 등으로 카운터가 작아진 경우에도 음수로 남지 않음)
+    private static final RedisScript<Long> DECREMENT_SCRIPT = RedisScript.of(
+        "local v = redis.call('HINCRBY', KEYS[1], ARGV[1], -tonumber(ARGV[2])) "
+            + "if v <= 0 then redis.call('HDEL', KEYS[1], ARGV[1]) return 0 end "
+            + "return v",
+        Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MemberShipRepository memberShipRepository;
+    private final RedisPublisher redisPublisher;
+
+    /**
+     * 새 메시지 도착 - 채팅방 멤버별로 자신이 보내지 않은 메시지 수만큼 증가
+     * senderIds: 이번에 저장된 메시지들의 보낸 사람 (메시지당 1개)
+     */
+    public void increment(Long chatRoomId, List<Long> senderIds) {
+        try {
+            List<Long> memberIds = memberShipRepository.findUserIdsByChatRoomId(chatRoomId);
+            for (Long memberId : memberIds) {
+                long received = senderIds.stream().filter(senderId -> !senderId.equals(memberId)).count();
+                if (received == 0) {
+                    continue;
+                }
+                Long unreadCount = hash().increment(key(memberId), chatRoomId.toString(), received);
+                redisPublisher.publishUnread(new UnreadCountResponse(memberId, chatRoomId, unreadCount));
+            }
+        } catch (Exception e) {
+            log.warn("안 읽은 메시지 수 증가 실패, chatRoomId: {}", chatRoomId, e);
+        }
+    }
+
+    /**
+     * 읽음 처리 - 새로 읽은 메시지 수(readCount)만큼 감소, 0 이하가 되면 필드 삭제
+     * - 감소와 삭제를 Lua 스크립트 하나로 실행 -> 동시에 들어온 HINCRBY 가 덮어써지거나 되살아나지 않음
+     */
+    public void decrement(Long chatRoomId, Long userId, long readCount) {
+        if (readCount <= 0) {
+            return;
+        }
+        try {
+            Long unreadCount = stringRedisTemplate.execute(DECREMENT_SCRIPT, List.of(key(userId)),
+                chatRoomId.toString(), Long.toString(readCount));
+            redisPublisher.publishUnread(new UnreadCountResponse(userId, chatRoomId, unreadCount != null ? unreadCount : 0L));
+        } catch (Exception e) {
+            log.warn("안 읽은 메시지 수 감소 실패, chatRoomId: {}, userId: {}", chatRoomId, userId, e);
+        }
+    }
+
+    /**
+     * 유저의 채팅방별 안 읽은 메시지 수 (chatRoomId -> count), HGETALL 한 번
+     */
+    public Map<Long, Long> getUnreadCounts(Long userId) {
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        try {
+            hash().entries(key(userId)).forEach((chatRoomId, count) ->
+                unreadCounts.put(Long.valueOf(chatRoomId), Long.valueOf(count)));
+        } catch (Exception e) {
+            log.warn("안 읽은 메시지 수 조회 실패, userId: {}", userId, e);
+        }
+        return unreadCounts;
+    }
+
+    /**
+     * 특정 채팅방의 안 읽은 메시지 수, HGET 한 번
+     */
+    public long getUnreadCount(Long userId, Long chatRoomId) {
+        try {
+            String count = hash().get(key(userId), chatRoomId.toString());
+            return count != null ? Long.parseLong(count) : 0L;
+        } catch (Exception e) {
+            log.warn("안 읽은 메시지 수 조회 실패, userId: {}", userId, e);
+            return 0L;
+        }
+    }
+
+    private HashOperations<String, String, String> hash() {
+        return stringRedisTemplate.opsForHash();
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.soop.domain.chat.dto.req;
+
+public record ChatStopRequest(
+    Long chatRoomId // AI 응답 생성을 중단할 채팅방 ID
+) {
+
+}
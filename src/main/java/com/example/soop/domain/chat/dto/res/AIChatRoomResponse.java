@@ -14,5 +14,6 @@ public record AIChatRoomResponse(
     String latestMessage,
     LocalDateTime messageUpdatedAt,
     RoomStatus roomStatus,
+    long unreadCount,
     int image
 ) {}
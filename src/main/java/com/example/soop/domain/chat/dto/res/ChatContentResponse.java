@@ -7,6 +7,7 @@ public record ChatContentResponse(
     Long chatRoomId,
     Long senderId,
     String content,
-    LocalDateTime createdAt
+    LocalDateTime createdAt,
+    Long seq // 채팅방 내 메시지 순번 (저장되지 않은 안내 메시지, 이전 메시지는 null)
 ) {
 }
@@ -3,7 +3,11 @@ package com.example.soop.domain.chat.dto.res;
 import java.util.List;
 
 public record ChatContentsResponse(
-    List<ChatContentResponse> chats
+    List<ChatContentResponse> chats, // 오래된 순 정렬
+    String beforeCursor, // 더 이전 메시지 조회용 커서 (가장 오래된 메시지 기준)
+    String afterCursor, // 이후 메시지 조회용 커서 (가장 최신 메시지 기준)
+    boolean hasBefore,
+    boolean hasAfter
 ) {
 
 }
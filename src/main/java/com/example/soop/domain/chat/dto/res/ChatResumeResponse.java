@@ -0,0 +1,10 @@
+package com.example.soop.domain.chat.dto.res;
+
+public record ChatResumeResponse(
+    Long chatRoomId,
+    String status, // OK: 놓친 메시지 모두 재전송, GAP: 일부 유실 -> REST API(after 커서)로 다시 조회 필요
+    int replayed, // 재전송한 메시지 수
+    String lastLogId // 재전송한 마지막 메시지의 스트림 ID (없으면 요청한 ID 그대로)
+) {
+
+}
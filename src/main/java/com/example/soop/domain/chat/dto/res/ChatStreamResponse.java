@@ -0,0 +1,11 @@
+package com.example.soop.domain.chat.dto.res;
+
+public record ChatStreamResponse(
+    String streamId, // 하나의 AI 응답 스트림 식별자
+    Long chatRoomId,
+    Long senderId,
+    int index, // 스트림 내 조각 순서 (0부터 시작)
+    String delta // 이번에 도착한 토큰 조각
+) {
+
+}
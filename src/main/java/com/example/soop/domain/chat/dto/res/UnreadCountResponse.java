@@ -0,0 +1,9 @@
+package com.example.soop.domain.chat.dto.res;
+
+public record UnreadCountResponse(
+    Long userId,
+    Long chatRoomId,
+    long unreadCount // 해당 채팅방에서 유저가 읽지 않은 메시지 수
+) {
+
+}
@@ -7,6 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -16,6 +18,14 @@ import org.springframework.data.mongodb.core.mapping.Field;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "soop-chats") // MongoDB 컬렉션 이름
+@CompoundIndexes({
+    // 최신 메시지 / 페이지 조회 (chat_room_id 일치 + created_at 정렬)
+    @CompoundIndex(name = "chat_room_created_at_id", def = "{'chat_room_id': 1, 'created_at': -1, '_id': -1}"),
+    // 보낸 사람별 메시지, 읽음 여부 조회
+    @CompoundIndex(name = "chat_room_sender_read", def = "{'chat_room_id': 1, 'sender_id': 1, 'is_read': 1}"),
+    // 순번 이후 메시지 조회 (재연결 시 놓친 메시지만)
+    @CompoundIndex(name = "chat_room_seq", def = "{'chat_room_id': 1, 'seq': 1}")
+})
 public class Chat {
 
     @Id
@@ -24,6 +34,9 @@ public class Chat {
     @Field("chat_room_id")
     private Long chatRoomId; // ChatRoom id만 저장
 
+    @Field("seq")
+    private Long seq; // 채팅방 내 메시지 순번 (저장 시 발급, 이전 메시지는 없음)
+
     @Field("sender_id")
     private Long senderId; // User id만 저장
 
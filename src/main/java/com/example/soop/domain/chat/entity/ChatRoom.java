@@ -33,6 +33,8 @@ import lombok.Setter;
 @Table(name = "chat_rooms")
 public class ChatRoom extends JpaBaseEntity {
 
+    public static final int LAST_MESSAGE_PREVIEW_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -43,9 +45,28 @@ public class ChatRoom extends JpaBaseEntity {
     @Column(nullable = false)
     private RoomType roomType;
 
+    @Column(length = 64, unique = true)
+    private String pairKey; // 1:1 채팅방 식별 키 (roomType:작은 유저 ID:큰 유저 ID), AI 채팅방은 null
+
     @Column
     private LocalDateTime messageUpdatedAt; // 가장 최근 메시지 도착 시간
 
+    /**
+     * 가장 최근 메시지 스냅샷 - 채팅방 목록 조회 시 MongoDB 조회 없이 사용
+     * (createdAt, messageId) 가 더 최신인 경우에만 갱신됨 (ChatRoomRepository.updateLastMessageIfNewer)
+     */
+    @Column(length = 24)
+    private String lastMessageId;
+
+    @Column(length = LAST_MESSAGE_PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    @Column
+    private Long lastMessageSenderId;
+
+    @Column
+    private LocalDateTime lastMessageAt;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private RoomStatus status;
@@ -62,4 +83,32 @@ public class ChatRoom extends JpaBaseEntity {
     public void updateMessageUpdatedAt() {
         this.messageUpdatedAt = LocalDateTime.now();
     }
+
+    // 가장 최근 메시지 스냅샷 반영 (DB 반영은 ChatRoomRepository.updateLastMessageIfNewer)
+    public void applyLastMessage(String messageId, String preview, Long senderId, LocalDateTime sentAt) {
+        this.lastMessageId = messageId;
+        this.lastMessagePreview = preview;
+        this.lastMessageSenderId = senderId;
+        this.lastMessageAt = sentAt;
+        this.messageUpdatedAt = sentAt;
+    }
+
+    // 가장 최근 메시지가 상대방이 보낸 것이면서, 내 읽음 위치(watermark) 이후인지 확인
+    public boolean hasUnreadFor(Membership membership) {
+        return lastMessageId != null
+            && !lastMessageSenderId.equals(membership.getUser().getId())
+            && !membership.hasRead(lastMessageId, lastMessageAt);
+    }
+
+    // 두 유저 순서와 관계없이 같은 값 -> (pairKey) 유니크 인덱스로 단건 조회, 중복 생성 방지
+    public static String pairKeyOf(RoomType roomType, Long userId, Long targetUserId) {
+        return roomType.name() + ":" + Math.min(userId, targetUserId) + ":" + Math.max(userId, targetUserId);
+    }
+
+    public static String toPreview(String content) {
+        if (content == null || content.length() <= LAST_MESSAGE_PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, LAST_MESSAGE_PREVIEW_LENGTH);
+    }
 }
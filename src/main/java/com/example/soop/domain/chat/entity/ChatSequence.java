@@ -0,0 +1,22 @@
+package com.example.soop.domain.chat.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * 채팅방별 메시지 순번 카운터 (_id = chatRoomId)
+ */
+@Getter
+@NoArgsConstructor
+@Document(collection = "soop-chat-sequences")
+public class ChatSequence {
+
+    @Id
+    private Long chatRoomId;
+
+    @Field("seq")
+    private long seq; // 마지막으로 발급한 순번
+}
@@ -2,6 +2,7 @@ package com.example.soop.domain.chat.entity;
 
 import com.example.soop.domain.user.User;
 import com.example.soop.global.entity.JpaBaseEntity;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -10,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -37,9 +39,28 @@ public class Membership extends JpaBaseEntity {
     @JoinColumn(name = "chat_room_id", nullable = false)
     private ChatRoom chatRoom;
 
+    /**
+     * 읽음 위치(watermark) - 이 메시지까지 읽음
+     * MemberShipRepository.advanceReadWatermark 로 (lastReadAt, lastReadMessageId) 가 증가하는 방향으로만 갱신
+     */
+    @Column(length = 24)
+    private String lastReadMessageId;
+
+    @Column
+    private LocalDateTime lastReadAt;
+
     public Membership(User user, ChatRoom chatRoom) {
         this.user = user;
         this.chatRoom = chatRoom;
     }
+
+    // (sentAt, messageId) 메시지가 읽음 위치 이전(또는 같은) 메시지인지 확인
+    public boolean hasRead(String messageId, LocalDateTime sentAt) {
+        if (lastReadAt == null) {
+            return false;
+        }
+        int compare = sentAt.compareTo(lastReadAt);
+        return compare < 0 || (compare == 0 && messageId.compareTo(lastReadMessageId) <= 0);
+    }
 }
 
@@ -1,15 +1,20 @@
 package com.example.soop.domain.chat.repository;
 
 import com.example.soop.domain.chat.entity.Chat;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 
 public interface ChatRepository extends MongoRepository<Chat, String> {
 
-    List<Chat> findAllByChatRoomIdOrderByCreatedAtAsc(Long chatRoomId);
-
     List<Chat> findAllByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId);
 
     List<Chat> findAllByChatRoomIdAndSenderId(Long chatRoomId, Long senderId);
@@ -19,4 +24,49 @@ public interface ChatRepository extends MongoRepository<Chat, String> {
     Optional<Chat> findByIdAndChatRoomId(String chatId, Long chatRoomId);
 
     List<Chat> findByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId, PageRequest of);
+
+    /**
+     * 가장 최신 메시지부터 (created_at, _id) 내림차순
+     */
+    List<Chat> findByChatRoomIdOrderByCreatedAtDescIdDesc(Long chatRoomId, Pageable pageable);
+
+    /**
+     * 커서 이전(더 오래된) 메시지 - (created_at, _id) 내림차순
+     */
+    @Query(value = "{ 'chat_room_id': ?0, '$or': [ { 'created_at': { '$lt': ?1 } }, "
+        + "{ 'created_at': ?1, '_id': { '$lt': ?2 } } ] }",
+        sort = "{ 'created_at': -1, '_id': -1 }")
+    List<Chat> findBefore(Long chatRoomId, LocalDateTime createdAt, ObjectId chatId, Pageable pageable);
+
+    /**
+     * 커서 이후(더 최신) 메시지 - (created_at, _id) 오름차순
+     */
+    @Query(value = "{ 'chat_room_id': ?0, '$or': [ { 'created_at': { '$gt': ?1 } }, "
+        + "{ 'created_at': ?1, '_id': { '$gt': ?2 } } ] }",
+        sort = "{ 'created_at': 1, '_id': 1 }")
+    List<Chat> findAfter(Long chatRoomId, LocalDateTime createdAt, ObjectId chatId, Pageable pageable);
+
+    /**
+     * 순번 이후 메시지 - seq 오름차순 (chat_room_id, seq) 인덱스 범위
+     */
+    List<Chat> findByChatRoomIdAndSeqGreaterThanOrderBySeqAsc(Long chatRoomId, Long seq, Pageable pageable);
+
+    /**
+     * 여러 채팅방의 가장 최근 메시지를 한 번에 조회 (채팅방당 1개)
+     * - (chat_room_id, created_at, _id) 인덱스 순서로 정렬 후 그룹별 첫 번째 문서 선택
+     */
+    @Aggregation(pipeline = {
+        "{ '$match': { 'chat_room_id': { '$in': ?0 } } }",
+        "{ '$sort': { 'chat_room_id': 1, 'created_at': -1, '_id': -1 } }",
+        "{ '$group': { '_id': '$chat_room_id', 'latest': { '$first': '$$ROOT' } } }",
+        "{ '$replaceRoot': { 'newRoot': '$latest' } }"
+    })
+    List<Chat> findLatestChatsByChatRoomIdIn(Collection<Long> chatRoomIds);
+
+    /**
+     * 읽음 위치까지 상대방이 보낸 메시지 일괄 읽음 처리 (updateMany 한 번) - 읽음 처리된 메시지 수 반환
+     */
+    @Query("{ 'chat_room_id': ?0, 'sender_id': { '$ne': ?1 }, 'is_read': false, 'created_at': { '$lte': ?2 } }")
+    @Update("{ '$set': { 'is_read': true } }")
+    long markReadUpTo(Long chatRoomId, Long readerId, LocalDateTime readAt);
 }
@@ -1,23 +1,44 @@
 package com.example.soop.domain.chat.repository;
 
+import com.example.soop.domain.chat.ChatRoomMetadata;
+import com.example.soop.domain.chat.ChatRoomPair;
 import com.example.soop.domain.chat.RoomType;
 import com.example.soop.domain.chat.entity.ChatRoom;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
+    /**
+     * 채팅방 메타데이터 조회 - 필요한 컬럼만 조회 (ChatRoomInfo, User 엔티티 로딩 없음)
+     */
+    @Query("SELECT new com.example.soop.domain.chat.ChatRoomMetadata("
+        + "cr.id, cr.roomType, cr.status, i.id, i.name, i.description, i.empathyLevel, i.tone) "
+        + "FROM ChatRoom cr LEFT JOIN cr.chatRoomInfo i WHERE cr.id = :chatRoomId")
+    Optional<ChatRoomMetadata> findMetadataById(@Param("chatRoomId") Long chatRoomId);
+
+    /**
+     * 1:1 채팅방 조회 - pairKey 유니크 인덱스 단건 조회
+     */
+    Optional<ChatRoom> findByPairKey(String pairKey);
+
     /**
      * 특정 유저와 대상 유저 간의 채팅방을 찾는 쿼리
+     * - pairKey 가 없는 이전 채팅방 조회용 (pairKey 보정 작업이 끝나기 전, pairKey 조회 실패 시에만 사용)
      */
     @Query("SELECT cr FROM ChatRoom cr " +
            "JOIN cr.memberships m1 " +
            "JOIN cr.memberships m2 " +
-           "WHERE m1.user.id = :userId AND m2.user.id = :targetUserId")
-    Optional<ChatRoom> findByUserIdAndTargetUserId(
+           "WHERE m1.user.id = :userId AND m2.user.id = :targetUserId AND cr.pairKey IS NULL " +
+           "ORDER BY cr.id")
+    List<ChatRoom> findLegacyByUserIdAndTargetUserId(
         @Param("userId") Long userId,
         @Param("targetUserId") Long targetUserId);
 
@@ -39,11 +60,14 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     List<ChatRoom> findAllByUserIdOrderByMessageUpdatedAtDesc(@Param("userId") Long userId);
 
     /**
-     * 룸 타입별 사용자 채팅방 목록 조회
+     * 룸 타입별 사용자 채팅방 목록 조회 (챗봇 정보 fetch join)
+     * - 챗봇 정보가 없는 채팅방도 포함 (LEFT JOIN, targetUserId=0 으로 만든 채팅방은 chatRoomInfo 가 null)
      */
     @Query(
         "SELECT cr FROM ChatRoom cr " +
             "JOIN cr.memberships m " +
+            "LEFT JOIN FETCH cr.chatRoomInfo i " +
+            "LEFT JOIN FETCH i.user " +
             "WHERE m.user.id = :userId " +
             "AND cr.roomType = :roomType " +
             "ORDER BY cr.messageUpdatedAt DESC"
@@ -53,6 +77,54 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
         @Param("roomType") RoomType roomType
     );
 
+    /**
+     * 가장 최근 메시지 스냅샷 갱신
+     * - 저장된 스냅샷보다 (createdAt, messageId) 가 최신인 경우에만 갱신 -> 동시 저장 시에도 이전 메시지로 되돌아가지 않음
+     * - 반환값: 갱신된 행 수 (0 이면 이미 더 최신 메시지가 반영됨)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatRoom cr SET " +
+        "cr.lastMessageId = :messageId, " +
+        "cr.lastMessagePreview = :preview, " +
+        "cr.lastMessageSenderId = :senderId, " +
+        "cr.lastMessageAt = :sentAt, " +
+        "cr.messageUpdatedAt = :sentAt " +
+        "WHERE cr.id = :chatRoomId " +
+        "AND (cr.lastMessageAt IS NULL OR cr.lastMessageAt < :sentAt " +
+        "OR (cr.lastMessageAt = :sentAt AND cr.lastMessageId < :messageId))")
+    int updateLastMessageIfNewer(
+        @Param("chatRoomId") Long chatRoomId,
+        @Param("messageId") String messageId,
+        @Param("preview") String preview,
+        @Param("senderId") Long senderId,
+        @Param("sentAt") LocalDateTime sentAt
+    );
 
+    /**
+     * 최근 메시지 스냅샷이 없는 채팅방 ID - id 순 페이지 조회 (일회성 보정 작업용)
+     */
+    @Query("SELECT cr.id FROM ChatRoom cr WHERE cr.lastMessageId IS NULL AND cr.id > :afterId ORDER BY cr.id")
+    List<Long> findIdsWithoutLastMessage(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * pairKey 가 없는 1:1 채팅방과 두 멤버 - id 순 페이지 조회 (일회성 보정 작업용)
+     */
+    @Query("SELECT new com.example.soop.domain.chat.ChatRoomPair(cr.id, cr.roomType, MIN(m.user.id), MAX(m.user.id)) "
+        + "FROM ChatRoom cr JOIN cr.memberships m "
+        + "WHERE cr.pairKey IS NULL AND cr.roomType = :roomType AND cr.id > :afterId "
+        + "GROUP BY cr.id, cr.roomType HAVING COUNT(m) = 2 ORDER BY cr.id")
+    List<ChatRoomPair> findPairsWithoutPairKey(
+        @Param("roomType") RoomType roomType,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
 
+    /**
+     * pairKey 보정 - 이미 채워진 채팅방은 건드리지 않음, 같은 pairKey 가 있으면 유니크 제약 위반
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatRoom cr SET cr.pairKey = :pairKey WHERE cr.id = :chatRoomId AND cr.pairKey IS NULL")
+    int updatePairKeyIfAbsent(@Param("chatRoomId") Long chatRoomId, @Param("pairKey") String pairKey);
 }
@@ -1,10 +1,15 @@
 package com.example.soop.domain.chat.repository;
 
+import com.example.soop.domain.chat.RoomType;
 import com.example.soop.domain.chat.entity.Membership;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface MemberShipRepository extends JpaRepository<Membership, Long> {
 
@@ -15,4 +20,45 @@ public interface MemberShipRepository extends JpaRepository<Membership, Long> {
      */
     @Query("SELECT m FROM Membership m WHERE m.chatRoom.id = :chatRoomId AND m.user.id <> :userId")
     List<Membership> findMembershipsByChatRoomIdAndExcludeUser(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+
+    /**
+     * 채팅방 멤버의 유저 ID 목록
+     */
+    @Query("SELECT m.user.id FROM Membership m WHERE m.chatRoom.id = :chatRoomId")
+    List<Long> findUserIdsByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+    /**
+     * 여러 채팅방의 대화 상대 membership 을 유저와 함께 한 번에 조회
+     */
+    @Query("SELECT m FROM Membership m JOIN FETCH m.user "
+        + "WHERE m.chatRoom.id IN :chatRoomIds AND m.user.id <> :userId")
+    List<Membership> findAllWithUserByChatRoomIdInAndExcludeUser(
+        @Param("chatRoomIds") Collection<Long> chatRoomIds,
+        @Param("userId") Long userId);
+
+    /**
+     * 룸 타입별 내 membership 목록 (채팅방 fetch join) - 가장 최근 메시지 도착 시간 내림차순
+     * - 챗봇 정보는 조회하지 않음 (1:1 채팅방은 chatRoomInfo 가 없으므로 join 하면 목록에서 빠짐)
+     */
+    @Query("SELECT m FROM Membership m JOIN FETCH m.chatRoom cr "
+        + "WHERE m.user.id = :userId AND cr.roomType = :roomType "
+        + "ORDER BY cr.messageUpdatedAt DESC")
+    List<Membership> findAllWithChatRoomByUserIdAndRoomType(
+        @Param("userId") Long userId,
+        @Param("roomType") RoomType roomType);
+
+    /**
+     * 읽음 위치(watermark) 갱신 - 저장된 위치보다 (readAt, messageId) 가 뒤인 경우에만 갱신
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Membership m SET m.lastReadMessageId = :messageId, m.lastReadAt = :readAt "
+        + "WHERE m.chatRoom.id = :chatRoomId AND m.user.id = :userId "
+        + "AND (m.lastReadAt IS NULL OR m.lastReadAt < :readAt "
+        + "OR (m.lastReadAt = :readAt AND m.lastReadMessageId < :messageId))")
+    int advanceReadWatermark(
+        @Param("chatRoomId") Long chatRoomId,
+        @Param("userId") Long userId,
+        @Param("messageId") String messageId,
+        @Param("readAt") LocalDateTime readAt);
 }
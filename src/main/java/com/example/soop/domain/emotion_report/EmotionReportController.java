@@ -20,6 +20,7 @@ import com.example.soop.domain.emotion_report.res.PositivityBlockResponse;
 import java.util.List;
 import com.example.soop.domain.emotion_log.res.PositivitySummaryResponse;
 import com.example.soop.domain.emotion_report.EmotionReportService.TriggerResult;
+import reactor.core.publisher.Mono;
 
 @Tag(name = "Emotion Report", description = "감정 분석 관련 API")
 @RestController
@@ -79,13 +80,13 @@ public class EmotionReportController {
 
     @Operation(summary = "기간별 AI 트리거 및 전략 조회")
     @GetMapping("/ai-feedback")
-    public ApiResponse<AiTriggersAndFeedbackResult> getAiFeedback(
+    public Mono<ApiResponse<AiTriggersAndFeedbackResult>> getAiFeedback(
         @AuthenticationPrincipal CustomUserDetails userDetails,
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        AiTriggersAndFeedbackResult aiFeedbackResult = emotionReportService.generateTriggersAndStrategies(
-            userDetails.getId(), startDate, endDate);
-        return ApiResponse.createSuccessWithData(aiFeedbackResult, "기간별 AI 트리거 및 전략 조회에 성공했습니다.");
+        return emotionReportService.generateTriggersAndStrategies(userDetails.getId(), startDate, endDate)
+            .map(aiFeedbackResult -> ApiResponse.createSuccessWithData(aiFeedbackResult,
+                "기간별 AI 트리거 및 전략 조회에 성공했습니다."));
     }
 
     @Operation(summary = "최근 7일간 긍정 감정 블록 + 증가율 요약")
@@ -100,13 +101,13 @@ public class EmotionReportController {
 
     @Operation(summary = "최근 가장 많이 등장한 긍정 트리거 조회")
     @GetMapping("/top-positive-trigger")
-    public ApiResponse<TriggerResult> getTopPositiveTrigger(
+    public Mono<ApiResponse<TriggerResult>> getTopPositiveTrigger(
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         LocalDate today = LocalDate.now();
         LocalDate start = today.minusDays(6); // 최근 7일
-        TriggerResult result = emotionReportService.getMostPositiveTrigger(userDetails.getId(), start, today.plusDays(1));
-        return ApiResponse.createSuccessWithData(result, "최근 가장 자주 등장한 긍정 트리거 조회에 성공했습니다.");
+        return emotionReportService.getMostPositiveTrigger(userDetails.getId(), start, today.plusDays(1))
+                .map(result -> ApiResponse.createSuccessWithData(result, "최근 가장 자주 등장한 긍정 트리거 조회에 성공했습니다."));
     }
 
 }
@@ -8,6 +8,8 @@ import com.example.soop.domain.user.User;
 import com.example.soop.domain.user.repository.UserRepository;
 import com.example.soop.global.code.ErrorCode;
 import com.example.soop.global.exception.UserException;
+import com.example.soop.global.util.GeminiClient;
+import java.time.Duration;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -19,34 +21,22 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import jdk.jfr.Description;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.EnableRetry;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 import com.example.soop.domain.emotion_log.dto.PositiveCountPerDay;
 import com.example.soop.domain.emotion_report.res.PositivityBlockResponse;
 import com.example.soop.domain.emotion_log.res.PositivitySummaryResponse;
 import java.util.Comparator;
 
-@EnableRetry
 @Service
 @RequiredArgsConstructor
 public class EmotionReportService {
 
     private final EmotionLogRepository emotionLogRepository;
     private final UserRepository userRepository;
-    private final RestTemplate restTemplate = new RestTemplate();  // HTTP 호출용
-    @Value("${gemini.api-url}")
-    private String geminiApiUrlBase;
-
-    @Value("${gemini.api-key}")
-    private String geminiApiKey;
+    private final GeminiClient geminiClient;
 
     @Description("일별 분석 보고서 조회")
     public EmotionReportResponse getDailyReport(Long userId, LocalDate date) {
@@ -116,24 +106,22 @@ public class EmotionReportService {
     }
 
     @Description("긍정, 부정 트리거 및 전략 추출")
-    public AiTriggersAndFeedbackResult generateTriggersAndStrategies(Long userId,
+    public Mono<AiTriggersAndFeedbackResult> generateTriggersAndStrategies(Long userId,
         LocalDate startDate, LocalDate endDate) {
-        List<String> contents = loadEmotionContents(userId, startDate, endDate);
-        if (contents.isEmpty()) {
-            return emptyResult();
-        }
-
-        String prompt = buildPrompt(contents);
-        String responseText = callGeminiApi(prompt);
-        return parseGeminiResponse(responseText);
+        // JPA 조회는 블로킹이므로 boundedElastic 에서 실행
+        return Mono.fromCallable(() -> loadEmotionContents(userId, startDate, endDate))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(contents -> contents.isEmpty()
+                ? Mono.just(emptyResult())
+                : callGeminiApi(buildPrompt(contents)).map(this::parseGeminiResponse));
     }
 
     @Description("최근 긍정 트리거 중 가장 많이 등장한 항목을 반환")
-    public TriggerResult getMostPositiveTrigger(Long userId, LocalDate startDate, LocalDate endDate) {
-        AiTriggersAndFeedbackResult aiResult = generateTriggersAndStrategies(userId, startDate, endDate);
-        return aiResult.positiveTriggers().stream()
+    public Mono<TriggerResult> getMostPositiveTrigger(Long userId, LocalDate startDate, LocalDate endDate) {
+        return generateTriggersAndStrategies(userId, startDate, endDate)
+            .map(aiResult -> aiResult.positiveTriggers().stream()
                 .max(Comparator.comparingInt(TriggerResult::count))
-                .orElse(new TriggerResult("None", 0));
+                .orElse(new TriggerResult("None", 0)));
     }
 
     @Description("최근 7일간 긍정 감정 블록 및 증가율 계산")
@@ -247,41 +235,21 @@ public class EmotionReportService {
     }
 
     /**
-     * Gemini API 호출
+     * Gemini API 호출 (텍스트가 없으면 1회 재시도)
+     * - 5xx 재시도는 GeminiClient 가 담당하므로 여기서는 빈 응답만 재시도
      */
-    @Retryable(
-        value = RuntimeException.class,
-        maxAttempts = 2,
-        backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
-    private String callGeminiApi(String prompt) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        Map<String, Object> requestBody = Map.of(
-            "contents", List.of(Map.of("parts", List.of(Map.of("text", prompt))))
-        );
-
-        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
-        String geminiApiUrl = geminiApiUrlBase + "?key=" + geminiApiKey;
-
-        ResponseEntity<Map> responseEntity = restTemplate.postForEntity(geminiApiUrl, requestEntity,
-            Map.class);
+    private Mono<String> callGeminiApi(String prompt) {
+        return geminiClient.generate(GeminiClient.textRequest(prompt))
+            .switchIfEmpty(Mono.error(EmptyGeminiResponseException::new))
+            .retryWhen(Retry.backoff(1, Duration.ofSeconds(1))
+                .filter(EmptyGeminiResponseException.class::isInstance));
+    }
 
-        Map<String, Object> responseBody = responseEntity.getBody();
-        if (responseBody == null) {
-            throw new RuntimeException("Gemini 응답 비어있음");
-        }
+    private static class EmptyGeminiResponseException extends RuntimeException {
 
-        List<Map<String, Object>> candidates = (List<Map<String, Object>>) responseBody.get(
-            "candidates");
-        if (candidates == null || candidates.isEmpty()) {
-            throw new RuntimeException("Gemini 응답에 candidates 없음");
+        private EmptyGeminiResponseException() {
+            super("Gemini 응답에 candidates 없음");
         }
-
-        Map<String, Object> contentMap = (Map<String, Object>) candidates.get(0).get("content");
-        List<Map<String, Object>> parts = (List<Map<String, Object>>) contentMap.get("parts");
-        return (String) parts.get(0).get("text");
     }
 
     /**
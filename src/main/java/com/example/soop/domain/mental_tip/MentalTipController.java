@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,7 +20,7 @@ public class MentalTipController {
         description = "하루에 세 개, 긍정적인 마음을 위한 멘탈 팁을 제공합니다."
     )
     @GetMapping
-    public MentalTipResponse getTodayMentalTips() {
+    public Mono<MentalTipResponse> getTodayMentalTips() {
         return mentalTipService.generateThreeTips();
     }
 }
\ No newline at end of file
@@ -16,6 +16,13 @@ public enum ErrorCode {
     // EMOTION_LOG
     EMOTION_NOT_FOUND(HttpStatus.NOT_FOUND, "EMOTION401", "감정 기록이 존재하지 않습니다."),
 
+    // CHAT
+    CHAT_CURSOR_INVALID(HttpStatus.BAD_REQUEST, "CHAT401", "채팅 페이지 커서 형식이 올바르지 않습니다."),
+    CHAT_ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "CHAT402", "존재하지 않는 채팅방입니다."),
+    CHAT_ROOM_FORBIDDEN(HttpStatus.FORBIDDEN, "CHAT403", "채팅방 멤버가 아닙니다."),
+    CHAT_WRITE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "CHAT404", "메시지 저장 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    CHAT_SUBSCRIPTION_FORBIDDEN(HttpStatus.FORBIDDEN, "CHAT405", "다른 유저의 구독 경로는 구독할 수 없습니다."),
+
 
     // REFRESH_TOKEN
     REFRESH_TOKEN_NOT_FOUND(HttpStatus.NOT_FOUND, "REFRESH401", "리프레시 토큰이 DB에 존재하지 않습니다."),
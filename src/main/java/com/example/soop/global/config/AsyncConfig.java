@@ -0,0 +1,65 @@
+package com.example.soop.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class AsyncConfig {
+
+    public static final String AI_REPLY_EXECUTOR = "aiReplyExecutor";
+
+    @Value("${chat.ai.executor.core-size:4}")
+    private int corePoolSize;
+
+    @Value("${chat.ai.executor.max-size:16}")
+    private int maxPoolSize;
+
+    @Value("${chat.ai.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    /**
+     * AI 응답 생성 전용 스레드 풀
+     * - LLM 응답 대기에는 사용하지 않고, 블로킹 단계(JPA 조회, 검색/크롤링)만 실행
+     * - 큐 길이, 활성 스레드 수는 actuator 의 executor.* 메트릭(name=aiReplyExecutor)으로 노출됨
+     */
+    @Bean(name = AI_REPLY_EXECUTOR)
+    public ThreadPoolTaskExecutor aiReplyExecutor(MeterRegistry meterRegistry) {
+        Timer queueWait = Timer.builder("chat.ai.executor.queue.wait")
+            .description("AI 응답 작업이 큐에서 대기한 시간")
+            .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-reply-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        // 작업 제출 시점을 기록해 두었다가 실제 실행 시점에 대기 시간 측정
+        executor.setTaskDecorator(task -> {
+            long enqueuedAt = System.nanoTime();
+            return () -> {
+                queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                task.run();
+            };
+        });
+        return executor;
+    }
+
+    /**
+     * 리액티브 파이프라인에서 블로킹 단계(JPA 조회, 검색/크롤링)를 실행할 Scheduler
+     * - aiReplyExecutor 를 그대로 사용하므로 크기 제한과 메트릭이 동일하게 적용됨
+     */
+    @Bean
+    public Scheduler aiReplyScheduler(@Qualifier(AI_REPLY_EXECUTOR) ThreadPoolTaskExecutor aiReplyExecutor) {
+        return Schedulers.fromExecutorService(aiReplyExecutor.getThreadPoolExecutor(), AI_REPLY_EXECUTOR);
+    }
+}
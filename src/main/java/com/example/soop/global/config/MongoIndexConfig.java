@@ -0,0 +1,129 @@
+package com.example.soop.global.config;
+
+import com.example.soop.domain.chat.entity.Chat;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * MongoDB 인덱스 정합성 확인
+ * - 엔티티에 선언된 인덱스(@CompoundIndex 등) 중 컬렉션에 없는 것을 생성 (같은 키의 인덱스가 있으면 건너뜀)
+ * - 확인/생성 실패는 로그만 남김 -> MongoDB 문제로 애플리케이션이 종료되지 않음
+ * - 주요 채팅 조회의 실행 계획(explain)을 확인해 COLLSCAN 이면 경고
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MongoIndexConfig {
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+
+    @Value("${mongo.index.diagnostics.enabled:true}")
+    private boolean diagnosticsEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileIndexes() {
+        ensureIndexes(Chat.class);
+        if (diagnosticsEnabled) {
+            reportChatQueryPlans();
+        }
+    }
+
+    /**
+     * 인덱스 이름이 아니라 키(필드 + 방향, 순서 포함)로 비교
+     * - 이름만 다른 같은 인덱스를 다시 만들면 IndexOptionsConflict -> 이미 있는 것으로 처리
+     * - 조회/생성 실패는 인덱스별로 로그만 남기고 애플리케이션 시작은 막지 않음
+     */
+    private void ensureIndexes(Class<?> entityClass) {
+        String collection = mongoTemplate.getCollectionName(entityClass);
+        Set<List<String>> existing = new HashSet<>();
+        try {
+            for (Document index : mongoTemplate.getCollection(collection).listIndexes()) {
+                existing.add(keySignature(index.get("key", Document.class)));
+            }
+        } catch (Exception e) {
+            log.warn("[{}] MongoDB 인덱스 목록 조회 실패, 인덱스 확인 건너뜀: {}", collection, e.getMessage());
+            return;
+        }
+
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+        IndexOperations indexOps = mongoTemplate.indexOps(entityClass);
+        for (IndexDefinition index : resolver.resolveIndexFor(entityClass)) {
+            String name = index.getIndexOptions().getString("name");
+            if (existing.contains(keySignature(index.getIndexKeys()))) {
+                continue;
+            }
+            try {
+                indexOps.ensureIndex(index);
+                log.info("MongoDB 인덱스 생성: {}.{} {}", collection, name, index.getIndexKeys().toJson());
+            } catch (Exception e) {
+                log.warn("[{}] MongoDB 인덱스 생성 실패: {} {} - {}", collection, name, index.getIndexKeys().toJson(),
+                    e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 인덱스 키 비교용 값 ("필드:방향" 목록) - 숫자 방향은 타입(int/long/double)과 무관하게 비교
+     */
+    private static List<String> keySignature(Document keys) {
+        List<String> signature = new ArrayList<>();
+        keys.forEach((field, direction) -> signature.add(field + ":"
+            + (direction instanceof Number number ? Integer.toString(number.intValue()) : String.valueOf(direction))));
+        return signature;
+    }
+
+    /**
+     * 채팅 핫 쿼리 실행 계획 리포트
+     * - 실제 데이터와 무관하게 계획만 확인하므로 존재하지 않는 채팅방 ID 로 조회
+     */
+    private void reportChatQueryPlans() {
+        Document room = new Document("chat_room_id", -1L);
+        Map<String, Document[]> probes = new LinkedHashMap<>();
+        probes.put("최신 메시지 조회", new Document[]{room, new Document("created_at", -1)});
+        probes.put("메시지 페이지 조회", new Document[]{room, new Document("created_at", -1).append("_id", -1)});
+        probes.put("보낸 사람별 메시지 조회",
+            new Document[]{new Document(room).append("sender_id", -1L), new Document()});
+        probes.put("안 읽은 메시지 조회",
+            new Document[]{new Document(room).append("sender_id", -1L).append("is_read", false), new Document()});
+        probes.put("순번 이후 메시지 조회",
+            new Document[]{new Document(room).append("seq", new Document("$gt", 0L)), new Document("seq", 1)});
+
+        String collection = mongoTemplate.getCollectionName(Chat.class);
+        probes.forEach((label, query) -> {
+            try {
+                Document explain = mongoTemplate.getCollection(collection)
+                    .find(query[0])
+                    .sort(query[1])
+                    .limit(1)
+                    .explain();
+                Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+                if (winningPlan.toJson().contains("\"COLLSCAN\"")) {
+                    log.warn("⚠️ [{}] {} 가 COLLSCAN 으로 실행됨 - 인덱스 확인 필요, plan: {}", collection, label,
+                        winningPlan.toJson());
+                } else {
+                    log.info("[{}] {} 인덱스 사용 확인", collection, label);
+                }
+            } catch (Exception e) {
+                log.warn("[{}] {} 실행 계획 확인 실패: {}", collection, label, e.getMessage());
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.soop.global.config;
 
+import com.example.soop.domain.chat.ChatRoomMetadataCache;
 import com.example.soop.global.redis.RedisSubscriber;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -15,20 +16,35 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @Configuration
 public class RedisConfig {
 
-    public static final String CHAT_TOPIC = "chatroom"; // 채널 이름
+    public static final String CHAT_TOPIC_PREFIX = "chatroom:"; // 채팅방별 채널 이름 (chatroom:{chatRoomId})
+    public static final String CHAT_STREAM_TOPIC_PREFIX = "chatroom-stream:"; // 채팅방별 AI 스트리밍 조각 채널
+    public static final String CHAT_UNREAD_TOPIC = "chat-unread"; // 안 읽은 메시지 수 변경 채널
+    public static final String CHAT_ROOM_INVALIDATE_TOPIC = "chat-room-invalidate"; // 채팅방 메타데이터 캐시 무효화 채널
 
+    /**
+     * 채팅방 채널은 이 서버에 해당 채팅방 구독자가 있을 때만 구독 (ChatRoomChannelRegistry)
+     */
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
         RedisConnectionFactory connectionFactory,
         RedisSubscriber redisSubscriber,
-        ChannelTopic channelTopic) {
+        ChatRoomMetadataCache chatRoomMetadataCache) {
 
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(redisSubscriber, channelTopic); // 구독 등록
+        container.addMessageListener(redisSubscriber, new ChannelTopic(CHAT_UNREAD_TOPIC));
+        container.addMessageListener(chatRoomMetadataCache, new ChannelTopic(CHAT_ROOM_INVALIDATE_TOPIC));
         return container;
     }
 
+    public static ChannelTopic chatTopic(Long chatRoomId) {
+        return new ChannelTopic(CHAT_TOPIC_PREFIX + chatRoomId);
+    }
+
+    public static ChannelTopic chatStreamTopic(Long chatRoomId) {
+        return new ChannelTopic(CHAT_STREAM_TOPIC_PREFIX + chatRoomId);
+    }
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
@@ -52,9 +68,4 @@ public class RedisConfig {
         return objectMapper;
     }
 
-
-    @Bean
-    public ChannelTopic channelTopic() {
-        return new ChannelTopic(CHAT_TOPIC);
-    }
 }
\ No newline at end of file
@@ -1,13 +1,26 @@
 package com.example.soop.global.config;
 
 import com.example.soop.global.interceptor.JwtChannelInterceptor;
+import com.example.soop.global.interceptor.UserSubscriptionInterceptor;
+import com.example.soop.global.websocket.ChatRoomSubscriptionRegistry;
+import com.example.soop.global.websocket.SlowConsumerGuard;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.WebSocketExtension;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -15,19 +28,158 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtChannelInterceptor jwtChannelInterceptor;
+    private final UserSubscriptionInterceptor userSubscriptionInterceptor;
+    private final SlowConsumerGuard slowConsumerGuard;
+
+    @Value("${chat.ws.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${chat.ws.send-buffer-size-kb:512}")
+    private int sendBufferSizeKb;
+
+    @Value("${chat.ws.message-size-limit-kb:64}")
+    private int messageSizeLimitKb; // STOMP 프레임 최대 크기 (여러 WebSocket 메시지로 나뉜 프레임 포함)
+
+    @Value("${chat.ws.native.permessage-deflate:true}")
+    private boolean permessageDeflate;
+
+    @Value("${chat.ws.inbound.core-size:8}")
+    private int inboundCoreSize;
+
+    @Value("${chat.ws.inbound.max-size:32}")
+    private int inboundMaxSize;
+
+    @Value("${chat.ws.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${chat.ws.outbound.core-size:8}")
+    private int outboundCoreSize;
+
+    @Value("${chat.ws.outbound.max-size:32}")
+    private int outboundMaxSize;
+
+    @Value("${chat.ws.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${chat.ws.broker.core-size:1}")
+    private int brokerCoreSize; // 1 이면 브로커 처리 순서 = 발행 순서
+
+    @Value("${chat.ws.broker.max-size:1}")
+    private int brokerMaxSize;
+
+    @Value("${chat.ws.broker.queue-capacity:10000}")
+    private int brokerQueueCapacity;
+
+    /**
+     * Simple Broker 의 구독 저장소를 목적지 기반 저장소로 교체 (ChatRoomSubscriptionRegistry)
+     */
+    @Bean
+    public static BeanPostProcessor chatRoomSubscriptionRegistryPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof SimpleBrokerMessageHandler brokerMessageHandler) {
+                    brokerMessageHandler.setSubscriptionRegistry(new ChatRoomSubscriptionRegistry());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * - preservePublishOrder: 같은 세션으로 나가는 메시지는 발행 순서대로 전송 (세션 간에는 병렬)
+     * - 브로커 채널 스레드 풀 크기/큐 길이는 chat.ws.broker.* 로 조정
+     */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.enableSimpleBroker("/sub"); // 구독 경로
         registry.setApplicationDestinationPrefixes("/pub"); // 메시지 발신 경로
+        registry.setPreservePublishOrder(true);
+        registry.configureBrokerChannel().taskExecutor()
+            .corePoolSize(brokerCoreSize)
+            .maxPoolSize(brokerMaxSize)
+            .queueCapacity(brokerQueueCapacity);
     }
 
+    /**
+     * - /ws/chat: SockJS (WebSocket 미지원 브라우저용 HTTP 폴백 포함)
+     * - /ws/chat/native: SockJS 프레이밍 없는 WebSocket, permessage-deflate 압축 협상
+     * - preserveReceiveOrder: 같은 세션에서 들어온 메시지는 받은 순서대로 처리 (세션 간에는 병렬)
+     */
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws/chat").setAllowedOriginPatterns("*").withSockJS();
+        registry.addEndpoint("/ws/chat/native")
+            .setAllowedOriginPatterns("*")
+            .setHandshakeHandler(nativeHandshakeHandler());
+        registry.setPreserveReceiveOrder(true);
+    }
+
+    /**
+     * permessage-deflate 는 서블릿 컨테이너(Tomcat)가 제공하며 클라이언트가 요청하면 협상됨
+     * - chat.ws.native.permessage-deflate=false 면 요청이 와도 협상하지 않음
+     */
+    private DefaultHandshakeHandler nativeHandshakeHandler() {
+        return new DefaultHandshakeHandler() {
+            @Override
+            protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+                List<WebSocketExtension> requestedExtensions, List<WebSocketExtension> supportedExtensions) {
+                List<WebSocketExtension> extensions =
+                    super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions);
+                if (permessageDeflate) {
+                    return extensions;
+                }
+                return extensions.stream()
+                    .filter(extension -> !"permessage-deflate".equalsIgnoreCase(extension.getName()))
+                    .toList();
+            }
+        };
+    }
+
+    /**
+     * 컨테이너 WebSocket 메시지 버퍼 크기 (기본 8KB -> 긴 AI 답변 프레임도 한 번에 수신)
+     */
+    @Bean
+    public ServletServerContainerFactoryBean webSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxTextMessageBufferSize(messageSizeLimitKb * 1024);
+        container.setMaxBinaryMessageBufferSize(messageSizeLimitKb * 1024);
+        return container;
     }
 
+    /**
+     * 세션별 송신 대기열 (SlowConsumerGuard)
+     * - preservePublishOrder 사용 시 세션당 전송이 하나씩만 진행되어 기본 송신 버퍼 한도가 동작하지 않음
+     *   -> 소켓 쓰기는 세션 대기열 + 송신 스레드로 분리하고, 대기열 크기/쓰기 시간 한도를 직접 적용
+     * - 아래 기본 한도는 대기열 앞단의 안전장치로 같은 값을 사용
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs);
+        registration.setSendBufferSizeLimit(sendBufferSizeKb * 1024);
+        registration.setMessageSizeLimit(messageSizeLimitKb * 1024);
+        registration.addDecoratorFactory(slowConsumerGuard);
+    }
+
+    /**
+     * inbound/outbound 채널 스레드 풀
+     * - 큐 길이, 활성 스레드 수는 actuator 의 executor.* 메트릭
+     *   (name=clientInboundChannelExecutor / clientOutboundChannelExecutor / brokerChannelExecutor)으로 노출됨
+     */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(jwtChannelInterceptor);
+        registration.interceptors(jwtChannelInterceptor, userSubscriptionInterceptor); // 인증 후 구독 권한 확인
+        registration.taskExecutor()
+            .corePoolSize(inboundCoreSize)
+            .maxPoolSize(inboundMaxSize)
+            .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+            .corePoolSize(outboundCoreSize)
+            .maxPoolSize(outboundMaxSize)
+            .queueCapacity(outboundQueueCapacity);
     }
 }
@@ -0,0 +1,16 @@
+package com.example.soop.global.exception;
+
+import com.example.soop.global.code.ErrorCode;
+
+public class ChatException extends RuntimeException {
+
+    private final ErrorCode code;
+
+    public ChatException(ErrorCode code) {
+        this.code = code;
+    }
+
+    public ErrorCode getErrorCode() {
+        return code;
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.soop.global.handler;
 
+import com.example.soop.global.exception.ChatException;
 import com.example.soop.global.exception.EmotionLogException;
 import com.example.soop.global.exception.RefreshTokenException;
 import com.example.soop.global.exception.UserException;
@@ -20,6 +21,11 @@ public class GlobalExceptionHandler {
         return ApiResponse.createFail(e.getErrorCode());
     }
 
+    @ExceptionHandler(ChatException.class)
+    public ApiResponse<Void> handleChatException(ChatException e) {
+        return ApiResponse.createFail(e.getErrorCode());
+    }
+
     @ExceptionHandler(RefreshTokenException.class)
     public ApiResponse<Void> RefreshTokenException(RefreshTokenException e) {
         return ApiResponse.createFail(e.getErrorCode());
@@ -1,5 +1,7 @@
 package com.example.soop.global.interceptor;
 
+import com.example.soop.domain.chat.ChatSessionContext;
+import com.example.soop.domain.chat.ChatSessionContextRegistry;
 import com.example.soop.domain.user.User;
 import com.example.soop.domain.user.repository.UserRepository;
 import com.example.soop.global.code.ErrorCode;
@@ -25,6 +27,7 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
 
     private final JwtProvider jwtProvider;
     private final UserRepository userRepository;
+    private final ChatSessionContextRegistry chatSessionContextRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -51,6 +54,8 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
                 );
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 accessor.getSessionAttributes().put("userId", customUserDetail.getId()); // 웹소켓 세션에 유저 정보 저장 - 웹소켓 세션 유지되는 동안 계속 조회 가능
+                accessor.getSessionAttributes().put(ChatSessionContext.ATTRIBUTE,
+                    chatSessionContextRegistry.open(accessor.getSessionId(), customUserDetail.getId())); // 채팅방 권한/종류 캐시
             } else{
                 log.error("Authorization header is not found");
                 return null; // 헤더가 없을 경우 메시지 중단
@@ -0,0 +1,61 @@
+package com.example.soop.global.interceptor;
+
+import com.example.soop.global.code.ErrorCode;
+import com.example.soop.global.exception.ChatException;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 구독 경로(/sub/users/{userId}/**) 권한 확인
+ * - 자기 userId 경로만 구독 가능, 다른 유저 경로 구독은 CHAT_SUBSCRIPTION_FORBIDDEN
+ * - 유저 경로를 포함할 수 있는 와일드카드 구독(/sub/**, /sub/users/* 등)도 거절
+ */
+@Slf4j
+@Component
+public class UserSubscriptionInterceptor implements ChannelInterceptor {
+
+    static final String USER_DESTINATION_PREFIX = "/sub/users/";
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (!StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return message;
+        }
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Object userId = sessionAttributes != null ? sessionAttributes.get("userId") : null;
+        if (!isAllowed(accessor.getDestination(), userId)) {
+            log.warn("유저 구독 경로 권한 없음, userId: {}, destination: {}", userId, accessor.getDestination());
+            throw new ChatException(ErrorCode.CHAT_SUBSCRIPTION_FORBIDDEN);
+        }
+        return message;
+    }
+
+    static boolean isAllowed(String destination, Object userId) {
+        if (destination == null) {
+            return true; // 목적지 없는 구독은 브로커가 무시
+        }
+        if (destination.startsWith(USER_DESTINATION_PREFIX)) {
+            return userId != null && destination.startsWith(USER_DESTINATION_PREFIX + userId + "/");
+        }
+        // 와일드카드 앞의 고정 부분이 /sub/users/ 의 앞부분이면 다른 유저 경로와도 매칭될 수 있음
+        int wildcard = indexOfWildcard(destination);
+        return wildcard < 0 || !USER_DESTINATION_PREFIX.startsWith(destination.substring(0, wildcard));
+    }
+
+    private static int indexOfWildcard(String destination) {
+        for (int i = 0; i < destination.length(); i++) {
+            char c = destination.charAt(i);
+            if (c == '*' || c == '?' || c == '{') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.soop.global.redis;
+
+import com.example.soop.domain.chat.ChatRoomUnsubscribedEvent;
+import com.example.soop.global.config.RedisConfig;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * 채팅방 Redis 채널 동적 구독 관리
+ * - 이 서버의 STOMP 세션이 /sub/chatroom/{id} 를 처음 구독하면 chatroom:{id} 채널 구독
+ * - 마지막 구독이 끝나면(UNSUBSCRIBE / 연결 종료) 채널 구독 해제
+ * -> 서버별 역직렬화/전달 작업량이 전체 트래픽이 아니라 로컬 구독자 수에 비례
+ * - chat.fanout.transport=stream 이면 채팅 메시지는 Pub/Sub 대신 ChatRoomStreamFanout 으로 읽고,
+ *   SUBSCRIBE 의 resume-from 헤더가 있으면 놓친 메시지를 재전송
+ * - 마지막 구독이 끝난 채팅방은 ChatRoomUnsubscribedEvent 로 알림 (진행 중인 AI 응답 생성 취소 등)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomChannelRegistry {
+
+    private static final String CHAT_ROOM_DESTINATION_PREFIX = "/sub/chatroom/";
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisSubscriber redisSubscriber;
+    private final ChatRoomStreamFanout chatRoomStreamFanout;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, Set<String>> subscriptionsByRoom = new HashMap<>(); // chatRoomId -> {sessionId:subscriptionId}
+    private final Map<String, Map<String, Long>> roomsBySession = new HashMap<>(); // sessionId -> {subscriptionId -> chatRoomId}
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long chatRoomId = parseChatRoomId(accessor.getDestination());
+        if (chatRoomId == null) {
+            return;
+        }
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), chatRoomId);
+
+        String resumeFrom = accessor.getFirstNativeHeader(ChatRoomStreamFanout.RESUME_FROM_HEADER);
+        if (resumeFrom != null && chatRoomStreamFanout.isEnabled()) {
+            chatRoomStreamFanout.replay(accessor.getSessionId(), accessor.getSubscriptionId(), chatRoomId, resumeFrom);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        publishReleased(unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId()));
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        publishReleased(disconnect(event.getSessionId()));
+    }
+
+    /**
+     * 구독 관리 잠금 밖에서 이벤트 발행
+     */
+    private void publishReleased(List<Long> chatRoomIds) {
+        chatRoomIds.forEach(chatRoomId -> eventPublisher.publishEvent(new ChatRoomUnsubscribedEvent(chatRoomId)));
+    }
+
+    private synchronized void subscribe(String sessionId, String subscriptionId, Long chatRoomId) {
+        roomsBySession.computeIfAbsent(sessionId, id -> new HashMap<>()).put(subscriptionId, chatRoomId);
+        Set<String> subscriptions = subscriptionsByRoom.computeIfAbsent(chatRoomId, id -> new HashSet<>());
+        if (subscriptions.isEmpty()) {
+            redisMessageListenerContainer.addMessageListener(redisSubscriber, topics(chatRoomId));
+            if (chatRoomStreamFanout.isEnabled()) {
+                chatRoomStreamFanout.open(chatRoomId);
+            }
+            log.debug("채팅방 채널 구독, chatRoomId: {}", chatRoomId);
+        }
+        subscriptions.add(sessionId + ":" + subscriptionId);
+    }
+
+    /**
+     * @return 마지막 구독이 끝난 채팅방 ID 목록
+     */
+    private synchronized List<Long> unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, Long> sessionRooms = roomsBySession.get(sessionId);
+        if (sessionRooms == null) {
+            return List.of();
+        }
+        Long chatRoomId = sessionRooms.remove(subscriptionId);
+        if (sessionRooms.isEmpty()) {
+            roomsBySession.remove(sessionId);
+        }
+        if (chatRoomId != null && release(chatRoomId, sessionId + ":" + subscriptionId)) {
+            return List.of(chatRoomId);
+        }
+        return List.of();
+    }
+
+    /**
+     * @return 마지막 구독이 끝난 채팅방 ID 목록
+     */
+    private synchronized List<Long> disconnect(String sessionId) {
+        Map<String, Long> sessionRooms = roomsBySession.remove(sessionId);
+        if (sessionRooms == null) {
+            return List.of();
+        }
+        List<Long> released = new ArrayList<>();
+        sessionRooms.forEach((subscriptionId, chatRoomId) -> {
+            if (release(chatRoomId, sessionId + ":" + subscriptionId)) {
+                released.add(chatRoomId);
+            }
+        });
+        return released;
+    }
+
+    /**
+     * @return 채팅방의 마지막 구독이었으면 true
+     */
+    private boolean release(Long chatRoomId, String subscription) {
+        Set<String> subscriptions = subscriptionsByRoom.get(chatRoomId);
+        if (subscriptions == null || !subscriptions.remove(subscription) || !subscriptions.isEmpty()) {
+            return false;
+        }
+        subscriptionsByRoom.remove(chatRoomId);
+        redisMessageListenerContainer.removeMessageListener(redisSubscriber, topics(chatRoomId));
+        if (chatRoomStreamFanout.isEnabled()) {
+            chatRoomStreamFanout.close(chatRoomId);
+        }
+        log.debug("채팅방 채널 구독 해제, chatRoomId: {}", chatRoomId);
+        return true;
+    }
+
+    private List<ChannelTopic> topics(Long chatRoomId) {
+        if (chatRoomStreamFanout.isEnabled()) {
+            return List.of(RedisConfig.chatStreamTopic(chatRoomId)); // 채팅 메시지는 Redis Streams 로 전달
+        }
+        return List.of(RedisConfig.chatTopic(chatRoomId), RedisConfig.chatStreamTopic(chatRoomId));
+    }
+
+    private Long parseChatRoomId(String destination) {
+        if (destination == null || !destination.startsWith(CHAT_ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(CHAT_ROOM_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.soop.global.redis;
+
+import com.example.soop.domain.chat.dto.res.ChatContentResponse;
+import com.example.soop.domain.chat.dto.res.ChatResumeResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Redis Streams 기반 채팅 메시지 전달 (chat.fanout.transport=stream 일 때 사용)
+ * - 발행: 채팅방별 스트림(chatroom-log:{id})에 XADD, 길이는 max-length 근처로 유지
+ * - 전달: 서버마다 리더 스레드 하나가 로컬 구독자가 있는 채팅방 스트림만 XREAD 로 읽어 STOMP 로 전달
+ * - 모든 메시지 프레임에 log-id 헤더(스트림 ID)를 붙임 -> 클라이언트는 마지막으로 받은 ID 를 기억
+ * - 재연결 시 SUBSCRIBE 에 resume-from 헤더를 주면 그 이후 메시지만 해당 세션에 재전송
+ * - 재전송과 실시간 전달이 겹칠 수 있으므로 클라이언트는 log-id 로 중복 제거 (at-least-once)
+ * - AI 스트리밍 조각, 안 읽은 메시지 수는 일회성 데이터라 기존 Pub/Sub 유지
+ */
+@Slf4j
+@Component
+public class ChatRoomStreamFanout {
+
+    public static final String LOG_ID_HEADER = "log-id";
+    public static final String RESUME_FROM_HEADER = "resume-from";
+    public static final String RESUME_STATUS_HEADER = "resume-status";
+
+    private static final String CHAT_LOG_KEY_PREFIX = "chatroom-log:";
+    private static final String CHAT_ROOM_DESTINATION_PREFIX = "/sub/chatroom/";
+    private static final String PAYLOAD_FIELD = "payload";
+    private static final String INITIAL_ID = "0-0";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MessageChannel clientOutboundChannel;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final Map<Long, String> offsets = new ConcurrentHashMap<>(); // chatRoomId -> 마지막으로 전달한 스트림 ID
+
+    @Value("${chat.fanout.transport:pubsub}")
+    private String transport;
+
+    @Value("${chat.fanout.stream.max-length:1000}")
+    private long maxLength; // 채팅방별 보관 메시지 수 (재연결 시 따라잡을 수 있는 범위)
+
+    @Value("${chat.fanout.stream.replay-limit:500}")
+    private int replayLimit;
+
+    @Value("${chat.fanout.stream.read-count:200}")
+    private int readCount;
+
+    @Value("${chat.fanout.stream.block-ms:1000}")
+    private long blockMs;
+
+    private Thread reader;
+    private volatile boolean running = true;
+
+    public ChatRoomStreamFanout(StringRedisTemplate stringRedisTemplate,
+        SimpMessagingTemplate messagingTemplate,
+        @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.clientOutboundChannel = clientOutboundChannel;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        reader = new Thread(this::runReadLoop, "chat-stream-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    public boolean isEnabled() {
+        return "stream".equalsIgnoreCase(transport);
+    }
+
+    /**
+     * 채팅방 스트림에 메시지 추가 (XADD MAXLEN ~ max-length)
+     */
+    public void append(ChatContentResponse message) {
+        try {
+            String payload = objectMapper.writeValueAsString(message);
+            stringRedisTemplate.opsForStream().add(
+                StreamRecords.string(Map.of(PAYLOAD_FIELD, payload)).withStreamKey(logKey(message.chatRoomId())),
+                XAddOptions.maxlen(maxLength).approximateTrimming(true)
+            );
+        } catch (Exception e) {
+            log.error("채팅 스트림 발행 실패, chatRoomId: {}", message.chatRoomId(), e);
+        }
+    }
+
+    /**
+     * 이 서버에 채팅방 첫 구독자가 생김 -> 현재 스트림 끝부터 읽기 시작
+     */
+    public void open(Long chatRoomId) {
+        offsets.computeIfAbsent(chatRoomId, this::latestId);
+    }
+
+    /**
+     * 이 서버의 마지막 구독자가 떠남 -> 읽기 중단
+     */
+    public void close(Long chatRoomId) {
+        offsets.remove(chatRoomId);
+    }
+
+    /**
+     * resume-from 이후 메시지를 해당 구독에만 재전송하고, 마지막에 재개 결과(ChatResumeResponse) 전송
+     * - resume-from 메시지가 이미 잘려 나갔거나 replay-limit 을 넘으면 GAP
+     */
+    public void replay(String sessionId, String subscriptionId, Long chatRoomId, String resumeFrom) {
+        String destination = CHAT_ROOM_DESTINATION_PREFIX + chatRoomId;
+        String status = "OK";
+        String lastLogId = resumeFrom;
+        int replayed = 0;
+        try {
+            // resume-from 포함해서 조회 -> 첫 레코드가 resume-from 이 아니면 그 사이가 잘려 나간 것
+            List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().range(
+                logKey(chatRoomId),
+                Range.rightUnbounded(Range.Bound.inclusive(resumeFrom)),
+                Limit.limit().count(replayLimit + 1)
+            );
+            if (records == null) {
+                records = List.of();
+            }
+            if (records.isEmpty() || !resumeFrom.equals(records.get(0).getId().getValue())) {
+                status = "GAP";
+            }
+            if (records.size() > replayLimit) {
+                status = "GAP";
+                records = records.subList(0, replayLimit);
+            }
+            for (MapRecord<String, Object, Object> record : records) {
+                String logId = record.getId().getValue();
+                if (logId.equals(resumeFrom)) {
+                    continue;
+                }
+                sendToSession(sessionId, subscriptionId, destination, readPayload(record),
+                    Map.of(LOG_ID_HEADER, logId));
+                lastLogId = logId;
+                replayed++;
+            }
+        } catch (Exception e) {
+            log.warn("채팅 스트림 재전송 실패, chatRoomId: {}, resumeFrom: {}", chatRoomId, resumeFrom, e);
+            status = "GAP";
+        }
+        sendToSession(sessionId, subscriptionId, destination,
+            new ChatResumeResponse(chatRoomId, status, replayed, lastLogId),
+            Map.of(RESUME_STATUS_HEADER, status));
+    }
+
+    private void runReadLoop() {
+        while (running) {
+            if (offsets.isEmpty()) {
+                sleepQuietly(100);
+                continue;
+            }
+            try {
+                @SuppressWarnings("unchecked")
+                StreamOffset<String>[] streamOffsets = offsets.entrySet().stream()
+                    .map(entry -> StreamOffset.create(logKey(entry.getKey()), ReadOffset.from(entry.getValue())))
+                    .toArray(StreamOffset[]::new);
+                List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                    StreamReadOptions.empty().count(readCount).block(Duration.ofMillis(blockMs)),
+                    streamOffsets
+                );
+                if (records != null) {
+                    records.forEach(this::deliver);
+                }
+            } catch (Exception e) {
+                if (running) {
+                    log.warn("채팅 스트림 읽기 실패, 잠시 후 재시도", e);
+                    sleepQuietly(TimeUnit.SECONDS.toMillis(1));
+                }
+            }
+        }
+    }
+
+    private void deliver(MapRecord<String, Object, Object> record) {
+        Long chatRoomId = Long.valueOf(record.getStream().substring(CHAT_LOG_KEY_PREFIX.length()));
+        String logId = record.getId().getValue();
+        // 읽는 도중 구독이 해제된 채팅방은 다시 등록하지 않음
+        if (offsets.replace(chatRoomId, logId) == null) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend(CHAT_ROOM_DESTINATION_PREFIX + chatRoomId, readPayload(record),
+                Map.of(LOG_ID_HEADER, logId));
+        } catch (Exception e) {
+            log.error("채팅 스트림 전달 실패, chatRoomId: {}, logId: {}", chatRoomId, logId, e);
+        }
+    }
+
+    /**
+     * 브로커를 거치지 않고 특정 세션의 특정 구독으로 MESSAGE 프레임 전송
+     */
+    private void sendToSession(String sessionId, String subscriptionId, String destination, Object payload,
+        Map<String, String> nativeHeaders) {
+        try {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId(subscriptionId);
+            accessor.setDestination(destination);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            nativeHeaders.forEach(accessor::setNativeHeader);
+            byte[] body = objectMapper.writeValueAsBytes(payload);
+            clientOutboundChannel.send(MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.warn("채팅 재전송 프레임 전송 실패, sessionId: {}", sessionId, e);
+        }
+    }
+
+    private ChatContentResponse readPayload(MapRecord<String, Object, Object> record) throws Exception {
+        return objectMapper.readValue(String.valueOf(record.getValue().get(PAYLOAD_FIELD)), ChatContentResponse.class);
+    }
+
+    private String latestId(Long chatRoomId) {
+        try {
+            List<MapRecord<String, Object, Object>> latest = stringRedisTemplate.opsForStream()
+                .reverseRange(logKey(chatRoomId), Range.unbounded(), Limit.limit().count(1));
+            return latest == null || latest.isEmpty() ? INITIAL_ID : latest.get(0).getId().getValue();
+        } catch (Exception e) {
+            log.warn("채팅 스트림 마지막 ID 조회 실패, chatRoomId: {}", chatRoomId, e);
+            return RecordId.of(System.currentTimeMillis(), 0).getValue();
+        }
+    }
+
+    private String logKey(Long chatRoomId) {
+        return CHAT_LOG_KEY_PREFIX + chatRoomId;
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        if (reader != null) {
+            reader.join(blockMs + TimeUnit.SECONDS.toMillis(1));
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.soop.global.redis;
 
+import com.example.soop.domain.chat.dto.res.ChatContentResponse;
+import com.example.soop.domain.chat.dto.res.ChatStreamResponse;
+import com.example.soop.domain.chat.dto.res.UnreadCountResponse;
+import com.example.soop.global.config.RedisConfig;
+import com.example.soop.global.redis.codec.ChatEventCodecs;
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -10,9 +16,28 @@ import org.springframework.stereotype.Component;
 public class RedisPublisher {
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ChannelTopic channelTopic;
+    private final ChatRoomStreamFanout chatRoomStreamFanout;
+    private final ChatEventCodecs chatEventCodecs;
 
-    public void publish(Object message) {
-        redisTemplate.convertAndSend(channelTopic.getTopic(), message);
+    /**
+     * 채팅 메시지 발행 - chat.fanout.transport=stream 이면 Redis Streams, 아니면 Pub/Sub
+     */
+    public void publish(ChatContentResponse message) {
+        if (chatRoomStreamFanout.isEnabled()) {
+            chatRoomStreamFanout.append(message);
+            return;
+        }
+        // 채팅 메시지는 코덱으로 직접 인코딩한 바이트를 그대로 발행
+        byte[] channel = RedisConfig.chatTopic(message.chatRoomId()).getTopic().getBytes(StandardCharsets.UTF_8);
+        byte[] body = chatEventCodecs.encode(message);
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
+    }
+
+    public void publishStream(ChatStreamResponse chunk) {
+        redisTemplate.convertAndSend(RedisConfig.chatStreamTopic(chunk.chatRoomId()).getTopic(), chunk);
+    }
+
+    public void publishUnread(UnreadCountResponse unreadCount) {
+        redisTemplate.convertAndSend(RedisConfig.CHAT_UNREAD_TOPIC, unreadCount);
     }
 }
\ No newline at end of file
@@ -1,7 +1,13 @@
 package com.example.soop.global.redis;
 
 import com.example.soop.domain.chat.dto.res.ChatContentResponse;
+import com.example.soop.domain.chat.dto.res.ChatStreamResponse;
+import com.example.soop.domain.chat.dto.res.UnreadCountResponse;
+import com.example.soop.global.config.RedisConfig;
+import com.example.soop.global.redis.codec.ChatEventCodecs;
+import com.example.soop.global.websocket.SlowConsumerGuard;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
@@ -15,6 +21,7 @@ import org.springframework.stereotype.Component;
 public class RedisSubscriber implements MessageListener {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatEventCodecs chatEventCodecs;
     private final ObjectMapper objectMapper = new ObjectMapper()
         .registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule()); // LocalDateTime 지원 등록!
 
@@ -22,8 +29,27 @@ public class RedisSubscriber implements MessageListener {
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            String body = new String(message.getBody());
-            ChatContentResponse chatContentResponse = objectMapper.readValue(body, ChatContentResponse.class);
+            byte[] body = message.getBody(); // String 으로 바꾸지 않고 바이트에서 바로 디코딩
+
+            String channel = new String(message.getChannel());
+
+            // 안 읽은 메시지 수는 해당 유저 구독 경로로 전달
+            if (RedisConfig.CHAT_UNREAD_TOPIC.equals(channel)) {
+                UnreadCountResponse unreadCount = objectMapper.readValue(body, UnreadCountResponse.class);
+                messagingTemplate.convertAndSend("/sub/users/" + unreadCount.userId() + "/unread", unreadCount);
+                return;
+            }
+
+            // AI 스트리밍 조각은 같은 채팅방 구독 경로로 그대로 전달
+            // - 완성된 답변이 채팅 메시지로 다시 오므로, 느린 세션에서는 버려도 되는 프레임으로 표시
+            if (channel.startsWith(RedisConfig.CHAT_STREAM_TOPIC_PREFIX)) {
+                ChatStreamResponse chunk = objectMapper.readValue(body, ChatStreamResponse.class);
+                messagingTemplate.convertAndSend("/sub/chatroom/" + chunk.chatRoomId(), chunk,
+                    Map.of(SlowConsumerGuard.EPHEMERAL_HEADER, "true"));
+                return;
+            }
+
+            ChatContentResponse chatContentResponse = chatEventCodecs.decode(body);
 
             // (STOMP) 실제로 각 서버의 SimpMessagingTemplate로 뿌려줌
             messagingTemplate.convertAndSend("/sub/chatroom/" + chatContentResponse.chatRoomId(), chatContentResponse);
@@ -0,0 +1,200 @@
+package com.example.soop.global.redis.codec;
+
+import com.example.soop.domain.chat.dto.res.ChatContentResponse;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import org.springframework.stereotype.Component;
+
+/**
+ * ChatContentResponse 전용 바이너리 포맷 (v1)
+ * - [0x01][flags][chatId][chatRoomId][senderId][content][createdAt], null 필드는 flags 비트로 표시하고 생략
+ * - chatId: ObjectId(24자리 hex)면 12바이트 그대로, 아니면 길이 + UTF-8
+ * - 숫자: zigzag varint, content: varint 길이 + UTF-8, createdAt: 초(varint) + 나노초(varint)
+ * - seq 는 맨 뒤에 추가 -> seq 를 모르는 디코더도 뒤쪽 바이트를 무시하고 그대로 디코딩 가능
+ * - 필드 이름/타입 정보가 없어 JSON 대비 크기가 작고, 바이트 배열에서 바로 디코딩
+ */
+@Component
+public class BinaryChatEventCodec implements ChatEventCodec {
+
+    private static final byte FORMAT_V1 = 0x01;
+
+    private static final int HAS_CHAT_ID = 1;
+    private static final int CHAT_ID_OBJECT_ID = 1 << 1;
+    private static final int HAS_CHAT_ROOM_ID = 1 << 2;
+    private static final int HAS_SENDER_ID = 1 << 3;
+    private static final int HAS_CONTENT = 1 << 4;
+    private static final int HAS_CREATED_AT = 1 << 5;
+    private static final int HAS_SEQ = 1 << 6;
+
+    private static final int OBJECT_ID_BYTES = 12;
+    private static final HexFormat HEX = HexFormat.of();
+
+    @Override
+    public byte formatId() {
+        return FORMAT_V1;
+    }
+
+    @Override
+    public String name() {
+        return "binary";
+    }
+
+    @Override
+    public byte[] encode(ChatContentResponse message) {
+        byte[] content = message.content() == null ? null : message.content().getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 + (content == null ? 0 : content.length));
+
+        boolean objectId = isObjectId(message.chatId());
+        int flags = (message.chatId() != null ? HAS_CHAT_ID : 0)
+            | (objectId ? CHAT_ID_OBJECT_ID : 0)
+            | (message.chatRoomId() != null ? HAS_CHAT_ROOM_ID : 0)
+            | (message.senderId() != null ? HAS_SENDER_ID : 0)
+            | (content != null ? HAS_CONTENT : 0)
+            | (message.createdAt() != null ? HAS_CREATED_AT : 0)
+            | (message.seq() != null ? HAS_SEQ : 0);
+        out.write(FORMAT_V1);
+        out.write(flags);
+
+        if (objectId) {
+            out.writeBytes(HEX.parseHex(message.chatId()));
+        } else if (message.chatId() != null) {
+            writeBytes(out, message.chatId().getBytes(StandardCharsets.UTF_8));
+        }
+        if (message.chatRoomId() != null) {
+            writeVarLong(out, zigzag(message.chatRoomId()));
+        }
+        if (message.senderId() != null) {
+            writeVarLong(out, zigzag(message.senderId()));
+        }
+        if (content != null) {
+            writeBytes(out, content);
+        }
+        if (message.createdAt() != null) {
+            writeVarLong(out, zigzag(message.createdAt().toEpochSecond(ZoneOffset.UTC)));
+            writeVarLong(out, message.createdAt().getNano());
+        }
+        if (message.seq() != null) {
+            writeVarLong(out, zigzag(message.seq()));
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public ChatContentResponse decode(byte[] bytes) {
+        if (bytes.length < 2 || bytes[0] != FORMAT_V1) {
+            throw new IllegalArgumentException("지원하지 않는 채팅 이벤트 포맷");
+        }
+        Reader reader = new Reader(bytes, 1);
+        int flags = reader.readByte();
+
+        String chatId = null;
+        if ((flags & CHAT_ID_OBJECT_ID) != 0) {
+            int start = reader.skip(OBJECT_ID_BYTES);
+            chatId = HEX.formatHex(bytes, start, start + OBJECT_ID_BYTES);
+        } else if ((flags & HAS_CHAT_ID) != 0) {
+            chatId = reader.readString();
+        }
+        Long chatRoomId = (flags & HAS_CHAT_ROOM_ID) != 0 ? unzigzag(reader.readVarLong()) : null;
+        Long senderId = (flags & HAS_SENDER_ID) != 0 ? unzigzag(reader.readVarLong()) : null;
+        String content = (flags & HAS_CONTENT) != 0 ? reader.readString() : null;
+        LocalDateTime createdAt = null;
+        if ((flags & HAS_CREATED_AT) != 0) {
+            long epochSecond = unzigzag(reader.readVarLong());
+            int nano = (int) reader.readVarLong();
+            createdAt = LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+        Long seq = (flags & HAS_SEQ) != 0 ? unzigzag(reader.readVarLong()) : null;
+        return new ChatContentResponse(chatId, chatRoomId, senderId, content, createdAt, seq);
+    }
+
+    private static boolean isObjectId(String chatId) {
+        if (chatId == null || chatId.length() != OBJECT_ID_BYTES * 2) {
+            return false;
+        }
+        for (int i = 0; i < chatId.length(); i++) {
+            char c = chatId.charAt(i);
+            // 소문자 hex 만 허용해야 디코딩 결과가 원래 문자열과 같음
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeBytes(ByteArrayOutputStream out, byte[] bytes) {
+        writeVarLong(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        private int readByte() {
+            check(1);
+            return bytes[position++] & 0xFF;
+        }
+
+        /**
+         * length 만큼 건너뛰고 시작 위치 반환
+         */
+        private int skip(int length) {
+            check(length);
+            int start = position;
+            position += length;
+            return start;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint");
+        }
+
+        private String readString() {
+            long length = readVarLong();
+            if (length < 0 || length > bytes.length) {
+                throw new IllegalArgumentException("잘못된 문자열 길이: " + length);
+            }
+            int start = skip((int) length);
+            return new String(bytes, start, (int) length, StandardCharsets.UTF_8);
+        }
+
+        private void check(int length) {
+            if (position + length > bytes.length) {
+                throw new IllegalArgumentException("채팅 이벤트가 잘렸습니다");
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.soop.global.redis.codec;
+
+import com.example.soop.domain.chat.dto.res.ChatContentResponse;
+
+/**
+ * 서버 간 채팅 이벤트(Redis Pub/Sub) 직렬화 방식
+ * - 인코딩 결과의 첫 바이트는 포맷 식별자 -> 수신 측은 첫 바이트만 보고 디코더 선택
+ * - 새 포맷/버전은 겹치지 않는 식별자로 구현체를 추가하면 됨
+ */
+public interface ChatEventCodec {
+
+    /**
+     * 인코딩 결과의 첫 바이트
+     */
+    byte formatId();
+
+    String name();
+
+    byte[] encode(ChatContentResponse message);
+
+    ChatContentResponse decode(byte[] bytes);
+}
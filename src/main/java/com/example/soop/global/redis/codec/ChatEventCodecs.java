@@ -0,0 +1,49 @@
+package com.example.soop.global.redis.codec;
+
+import com.example.soop.domain.chat.dto.res.ChatContentResponse;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 이벤트 코덱 선택
+ * - 발행: chat.codec.format 으로 지정한 코덱 (json | binary)
+ * - 수신: 첫 바이트로 코덱을 고르므로 포맷이 섞여 있어도 디코딩 가능
+ *   -> 모든 서버가 배포된 뒤 binary 로 전환하면 무중단 전환
+ */
+@Component
+public class ChatEventCodecs {
+
+    private final ChatEventCodec[] decoders = new ChatEventCodec[256]; // 포맷 식별자 -> 코덱
+    private final ChatEventCodec encoder;
+
+    public ChatEventCodecs(List<ChatEventCodec> codecs, @Value("${chat.codec.format:json}") String format) {
+        ChatEventCodec selected = null;
+        for (ChatEventCodec codec : codecs) {
+            int formatId = codec.formatId() & 0xFF;
+            if (decoders[formatId] != null) {
+                throw new IllegalStateException("채팅 이벤트 포맷 식별자 중복: " + formatId);
+            }
+            decoders[formatId] = codec;
+            if (codec.name().equalsIgnoreCase(format)) {
+                selected = codec;
+            }
+        }
+        if (selected == null) {
+            throw new IllegalStateException("알 수 없는 채팅 이벤트 포맷: " + format);
+        }
+        this.encoder = selected;
+    }
+
+    public byte[] encode(ChatContentResponse message) {
+        return encoder.encode(message);
+    }
+
+    public ChatContentResponse decode(byte[] bytes) {
+        ChatEventCodec codec = bytes.length == 0 ? null : decoders[bytes[0] & 0xFF];
+        if (codec == null) {
+            throw new IllegalArgumentException("알 수 없는 채팅 이벤트 포맷");
+        }
+        return codec.decode(bytes);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.soop.global.redis.codec;
+
+import com.example.soop.domain.chat.dto.res.ChatContentResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 JSON 포맷 - JSON 객체는 항상 '{' 로 시작하므로 이를 포맷 식별자로 사용
+ */
+@Component
+public class JsonChatEventCodec implements ChatEventCodec {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Override
+    public byte formatId() {
+        return '{';
+    }
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    @Override
+    public byte[] encode(ChatContentResponse message) {
+        try {
+            return objectMapper.writeValueAsBytes(message);
+        } catch (IOException e) {
+            throw new IllegalStateException("채팅 이벤트 JSON 인코딩 실패", e);
+        }
+    }
+
+    @Override
+    public ChatContentResponse decode(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, ChatContentResponse.class); // String 변환 없이 바로 파싱
+        } catch (IOException e) {
+            throw new IllegalArgumentException("채팅 이벤트 JSON 디코딩 실패", e);
+        }
+    }
+}
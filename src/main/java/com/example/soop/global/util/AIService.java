@@ -1,28 +1,44 @@
 package com.example.soop.global.util;
 
+import com.example.soop.domain.chat.ChatBotPersona;
+import com.example.soop.domain.chat.ChatRoomUnsubscribedEvent;
 import com.example.soop.domain.chat.ChatService;
 import com.example.soop.domain.chat.dto.res.ChatContentResponse;
+import com.example.soop.domain.chat.dto.res.ChatStreamResponse;
 import com.example.soop.domain.chat.entity.Chat;
-import com.example.soop.domain.chat.entity.ChatRoom;
-import com.example.soop.domain.chat.entity.ChatRoomInfo;
 import com.example.soop.global.redis.RedisPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
 import reactor.util.retry.Retry;
 
 
@@ -35,111 +51,383 @@ public class AIService {
     private final RedisPublisher redisPublisher;
     private final WebClient webClient;
     private final SearchService searchService;
-    private final WebClient.Builder webClientBuilder;
+    private final GeminiClient geminiClient;
+    private final Scheduler aiReplyScheduler;
+    private final MeterRegistry meterRegistry;
 
     @Value("${openai.api.key}")
     private String openAiApiKey;
 
-    @Value("${gemini.api-url}")
-    private String apiUrl;
-
-    @Value("${gemini.api-key}")
-    private String apiKey;
-
     private static final String OPENAI_URL = "https://api.openai.com/v1/chat/completions";
     private static final String DEFAULT_MODEL = "gpt-4o"; // Latest model as of April 2025
     private static final int MAX_RETRIES = 2;
     private static final int TIMEOUT_SECONDS = 60;
+    private static final String GEMINI_FALLBACK_MESSAGE = "오늘 많이 지쳤죠. 너무 잘 버티고 있어요. 천천히 나아가도 괜찮아요.";
+
+    @Value("${chat.ai.streaming.enabled:false}")
+    private boolean streamingEnabled;
+
+    @Value("${chat.ai.reply.max-concurrency:64}")
+    private int maxConcurrentReplies;
+
+    @Value("${chat.ai.reply.queue-capacity:1024}")
+    private int replyQueueCapacity;
+
+    @Value("${chat.ai.reply.timeout-seconds:90}")
+    private long replyTimeoutSeconds;
+
+    @Value("${chat.ai.reply.debounce-ms:800}")
+    private long debounceMs; // 마지막 메시지 이후 이 시간 동안 조용하면 응답 생성 시작
+
+    @Value("${chat.ai.reply.max-wait-ms:3000}")
+    private long maxWaitMs; // 메시지가 계속 들어와도 첫 메시지 이후 이 시간이 지나면 응답 생성 시작
+
+    @Value("${chat.ai.reply.cancel-on-new-message:true}")
+    private boolean cancelOnNewMessage; // 생성 중 새 메시지가 오면 취소하고 새 메시지와 합쳐 다시 생성
+
+    private Sinks.Many<ReplyJob> replyJobs;
+    private final AtomicInteger pendingReplies = new AtomicInteger();
+    private final Map<Long, RoomReplyState> roomReplies = new ConcurrentHashMap<>(); // chatRoomId -> 대기 메시지/생성 상태
+
+    /**
+     * AI 응답 파이프라인 시작
+     * - 동시에 진행되는 응답 생성 수는 flatMap 동시성(max-concurrency)으로 제한
+     * - LLM 응답 대기 중에는 어떤 스레드도 점유하지 않음 (WebClient 이벤트 루프에서 처리)
+     */
+    @PostConstruct
+    void startReplyPipeline() {
+        replyJobs = Sinks.many().unicast().onBackpressureBuffer(Queues.<ReplyJob>get(replyQueueCapacity).get());
+        replyJobs.asFlux()
+                .flatMap(this::reply, maxConcurrentReplies)
+                .subscribe();
+        meterRegistry.gauge("chat.ai.reply.pending", pendingReplies);
+    }
+
+    /**
+     * GPT 응답 생성 요청 등록 (즉시 반환)
+     * - 채팅방별로 메시지를 모았다가 debounce-ms 동안 조용해지면 한 번의 응답 생성으로 합침
+     * - 채팅방당 응답 생성은 동시에 하나만 진행
+     * - 생성 중 들어온 메시지: 진행 중인 생성을 취소하고 그 메시지들과 합쳐 다시 생성 (cancel-on-new-message=false 면 끝난 뒤 다음 응답으로)
+     */
+    public void generateAndPublishResponseAsync(Long chatRoomId, String userMessage) {
+        roomReplies.compute(chatRoomId, (id, state) -> {
+            RoomReplyState current = state != null ? state : new RoomReplyState(id);
+            if (cancelOnNewMessage && current.activeJob != null) {
+                ReplyJob superseded = current.activeJob;
+                cancelActiveJob(current, "superseded");
+                addPendingMessages(current, superseded.messages());
+            }
+            addPendingMessages(current, List.of(userMessage));
+            if (!current.generating) {
+                scheduleFlush(id, current);
+            }
+            return current;
+        });
+    }
+
+    /**
+     * 진행 중인 응답 생성 취소 + 대기 메시지 폐기 (사용자가 중단 요청 / 채팅방을 떠난 경우)
+     * - LLM 요청(WebClient)과 검색/크롤링 단계까지 취소가 전파됨, 이미 저장이 시작된 응답은 그대로 발행
+     */
+    public void cancelReply(Long chatRoomId, String reason) {
+        roomReplies.computeIfPresent(chatRoomId, (id, state) -> {
+            if (!state.pendingMessages.isEmpty()) {
+                pendingReplies.decrementAndGet();
+                state.pendingMessages.clear();
+                state.sample = null;
+            }
+            if (state.flushTimer != null) {
+                state.flushTimer.dispose();
+                state.flushTimer = null;
+            }
+            cancelActiveJob(state, reason);
+            return state.generating ? state : null; // 생성 중이면 종료 시점(finishReply)에 제거
+        });
+    }
+
+    /**
+     * 이 서버에서 채팅방을 보고 있던 세션이 모두 떠남 (UNSUBSCRIBE / DISCONNECT) -> 응답 생성 취소
+     */
+    @EventListener
+    public void onChatRoomUnsubscribed(ChatRoomUnsubscribedEvent event) {
+        cancelReply(event.chatRoomId(), "abandoned");
+    }
+
+    /**
+     * 아직 저장 전인 생성 작업에 취소 신호 전달 - compute 안에서만 호출
+     */
+    private void cancelActiveJob(RoomReplyState state, String reason) {
+        if (state.activeJob == null) {
+            return;
+        }
+        state.activeJob.cancelSignal().tryEmitValue(reason);
+        state.activeJob = null;
+        meterRegistry.counter("chat.ai.reply.cancelled", "reason", reason).increment();
+        log.info("AI 응답 생성 취소, chatRoomId: {}, reason: {}", state.chatRoomId, reason);
+    }
+
+    /**
+     * 대기 메시지 추가 - 비어 있던 경우 대기 시작 시각과 지연 측정 시작 (compute 안에서만 호출)
+     */
+    private void addPendingMessages(RoomReplyState state, List<String> messages) {
+        if (state.pendingMessages.isEmpty()) {
+            state.sample = Timer.start(meterRegistry);
+            state.firstPendingAt = System.nanoTime();
+            pendingReplies.incrementAndGet();
+        }
+        state.pendingMessages.addAll(messages);
+        state.lastPendingAt = System.nanoTime();
+    }
 
+    /**
+     * 대기 메시지 묶음을 보낼 타이머 (재)설정 - compute 안에서만 호출
+     */
+    private void scheduleFlush(Long chatRoomId, RoomReplyState state) {
+        if (state.flushTimer != null) {
+            state.flushTimer.dispose();
+        }
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - state.firstPendingAt);
+        long delayMs = Math.max(0, Math.min(debounceMs, maxWaitMs - waitedMs));
+        state.flushTimer = Mono.delay(Duration.ofMillis(delayMs))
+                .subscribe(tick -> flush(chatRoomId));
+    }
+
+    /**
+     * 조용한 구간이 지났으면 대기 메시지를 하나의 작업으로 합쳐 파이프라인에 등록
+     * - 아직 조용하지 않으면(교체 전 타이머가 늦게 실행된 경우 등) 타이머만 다시 설정
+     */
+    private void flush(Long chatRoomId) {
+        AtomicReference<ReplyJob> job = new AtomicReference<>();
+        roomReplies.computeIfPresent(chatRoomId, (id, state) -> {
+            if (state.generating || state.pendingMessages.isEmpty()) {
+                return state;
+            }
+            if (!state.isReady(debounceMs, maxWaitMs)) {
+                scheduleFlush(id, state);
+                return state;
+            }
+            ReplyJob next = new ReplyJob(id, List.copyOf(state.pendingMessages), state.sample, Sinks.one());
+            job.set(next);
+            meterRegistry.summary("chat.ai.reply.coalesced.messages").record(state.pendingMessages.size());
+            state.pendingMessages.clear();
+            state.sample = null;
+            state.flushTimer = null;
+            state.generating = true;
+            state.activeJob = next;
+            return state;
+        });
+        if (job.get() != null) {
+            submit(job.get());
+        }
+    }
 
     /**
-     * 비동기로 GPT 응답을 생성하고 저장 및 Publish 까지 처리
+     * 응답 생성 작업을 파이프라인에 등록 - 대기열이 가득 찬 경우 "busy" 메시지 발행
      */
-    @Async
-    public void generateAndPublishResponseAsync(Long chatRoomId, String userMessage,
-                                                List<Map<String, String>> conversationHistory) {
-        try {
-            ChatRoom chatRoom = chatService.getChatRoomById(chatRoomId);
-            ChatRoomInfo chatRoomInfo = chatRoom.getChatRoomInfo();
-
-            // ✅ 1. Gemini 호출
-            String aiResponse = callGemini(userMessage, conversationHistory, chatRoomInfo);
-
-            // ✅ 2.  답변 저장
-            Chat botChat = Chat.builder()
-                    .chatRoomId(chatRoomId)
-                    .senderId(0L) // 시스템 ID
-                    .content(aiResponse)
-                    .isRead(false)
-                    .build();
-            Chat savedBotChat = chatService.saveChat(botChat);
-
-            // ✅ 3. Redis Publish
-            ChatContentResponse botResponse = new ChatContentResponse(
-                    savedBotChat.getId(),
-                    chatRoomId,
-                    0L,
-                    savedBotChat.getContent(),
-                    savedBotChat.getCreatedAt()
-            );
-            redisPublisher.publish(botResponse);
-        } catch (Exception e) {
-            log.error("GPT 응답 생성 비동기 처리 중 오류: {}", e.getMessage(), e);
-            handleGptError(chatRoomId, e);
+    private void submit(ReplyJob job) {
+        Sinks.EmitResult result;
+        synchronized (replyJobs) { // 여러 스레드에서 동시에 호출되므로 직렬화
+            result = replyJobs.tryEmitNext(job);
+        }
+        if (result.isFailure()) {
+            pendingReplies.decrementAndGet();
+            log.warn("AI 응답 대기열 초과, chatRoomId: {}, result: {}", job.chatRoomId(), result);
+            publishBusyMessage(job.chatRoomId());
+            finishReply(job.chatRoomId());
         }
     }
 
+    /**
+     * 채팅방 응답 생성 종료 - 생성 중 쌓인 메시지가 있으면 다음 묶음 예약, 없으면 상태 제거
+     */
+    private void finishReply(Long chatRoomId) {
+        roomReplies.computeIfPresent(chatRoomId, (id, state) -> {
+            state.generating = false;
+            state.activeJob = null;
+            if (state.pendingMessages.isEmpty()) {
+                return null;
+            }
+            scheduleFlush(id, state);
+            return state;
+        });
+    }
+
+    /**
+     * 생성된 답변을 저장해도 되는지 확인하고, 이후로는 취소되지 않도록 표시
+     * - 취소와 같은 잠금(compute) 안에서 판단하므로 "취소됐는데 저장됨" / "저장됐는데 다시 생성" 이 생기지 않음
+     */
+    private boolean commitReply(ReplyJob job) {
+        AtomicBoolean committed = new AtomicBoolean();
+        roomReplies.computeIfPresent(job.chatRoomId(), (id, state) -> {
+            if (state.activeJob == job) {
+                state.activeJob = null;
+                committed.set(true);
+            }
+            return state;
+        });
+        return committed.get();
+    }
+
+    /**
+     * 하나의 응답 생성 작업: Gemini 호출 -> 답변 저장 -> Redis Publish
+     * - 취소 신호가 오면 upstream 구독이 취소됨 -> WebClient 요청 중단, 검색/크롤링 스레드 인터럽트
+     */
+    private Mono<Void> reply(ReplyJob job) {
+        Long chatRoomId = job.chatRoomId();
+        return Mono.zip(
+                        Mono.fromCallable(() -> chatService.getChatBotPersona(chatRoomId)),
+                        Mono.fromCallable(() -> loadConversationHistory(chatRoomId))) // 대화 이력 (최근 N개 메시지)
+                .subscribeOn(aiReplyScheduler)
+                // ✅ 1. Gemini 호출 (스트리밍 모드면 토큰 조각을 먼저 발행)
+                .flatMap(context -> streamingEnabled
+                        ? callGeminiWithStreaming(chatRoomId, job.userMessage(), context.getT2(), context.getT1())
+                        : callGemini(job.userMessage(), context.getT2(), context.getT1()))
+                .timeout(Duration.ofSeconds(replyTimeoutSeconds))
+                .takeUntilOther(job.cancelSignal().asMono())
+                // ✅ 2, 3. 답변 저장 + Redis Publish (블로킹 I/O 이므로 이벤트 루프 밖에서 실행)
+                .publishOn(Schedulers.boundedElastic())
+                .filter(aiResponse -> commitReply(job))
+                .doOnNext(aiResponse -> saveAndPublishBotChat(chatRoomId, aiResponse))
+                .then()
+                .onErrorResume(e -> {
+                    log.error("GPT 응답 생성 비동기 처리 중 오류: {}", e.getMessage(), e);
+                    return Mono.fromRunnable(() -> handleGptError(chatRoomId, e))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .onErrorResume(ex -> {
+                                log.error("오류 메시지 발행 실패, chatRoomId: {}", chatRoomId, ex);
+                                return Mono.empty();
+                            })
+                            .then();
+                })
+                .doFinally(signal -> {
+                    pendingReplies.decrementAndGet();
+                    job.sample().stop(meterRegistry.timer("chat.ai.reply.latency"));
+                    finishReply(chatRoomId);
+                });
+    }
+
+    /**
+     * 대화 이력을 가져오는 메소드
+     * 최근 N개의 메시지를 가져와 OpenAI API 형식에 맞게 변환
+     */
+    private List<Map<String, String>> loadConversationHistory(Long chatRoomId) {
+        // 최근 대화 이력 조회 (예: 최근 10개)
+        List<Chat> recentChats = chatService.getRecentChats(chatRoomId, 10);
+        List<Map<String, String>> conversationHistory = new ArrayList<>();
+
+        for (Chat chat : recentChats) {
+            Map<String, String> message = new HashMap<>();
+
+            // 사용자 메시지와 AI 메시지 구분
+            if (chat.getSenderId() > 0) { // 사용자 메시지
+                message.put("role", "user");
+            } else { // AI 메시지
+                message.put("role", "assistant");
+            }
+
+            message.put("content", chat.getContent());
+            conversationHistory.add(message);
+        }
+
+        return conversationHistory;
+    }
+
+    private void saveAndPublishBotChat(Long chatRoomId, String aiResponse) {
+        Chat botChat = Chat.builder()
+                .chatRoomId(chatRoomId)
+                .senderId(0L) // 시스템 ID
+                .content(aiResponse)
+                .isRead(false)
+                .build();
+        Chat savedBotChat = chatService.saveChat(botChat);
+
+        ChatContentResponse botResponse = new ChatContentResponse(
+                savedBotChat.getId(),
+                chatRoomId,
+                0L,
+                savedBotChat.getContent(),
+                savedBotChat.getCreatedAt(),
+                savedBotChat.getSeq()
+        );
+        redisPublisher.publish(botResponse);
+    }
+
+    /**
+     * AI 응답 대기열이 가득 찬 경우 "busy" 메시지 발행 (저장하지 않음)
+     */
+    public void publishBusyMessage(Long chatRoomId) {
+        meterRegistry.counter("chat.ai.reply.rejected").increment();
+
+        ChatContentResponse busyResponse = new ChatContentResponse(
+                null,
+                chatRoomId,
+                0L,
+                "지금 대화 요청이 많아 답변이 어려워요. 잠시 후 다시 메시지를 보내주세요.",
+                LocalDateTime.now(),
+                null
+        );
+        redisPublisher.publish(busyResponse);
+    }
+
     /**
      * 실제 Gemini AI API 호출 부분
      */
-    public String callGemini(String userMessage, List<Map<String, String>> conversationHistory, ChatRoomInfo chatRoomInfo) {
+    public Mono<String> callGemini(String userMessage, List<Map<String, String>> conversationHistory, ChatBotPersona persona) {
         log.info("📡 Gemini API 호출 시작...");
+        return Mono.fromCallable(() -> buildGeminiRequest(userMessage, conversationHistory, persona))
+                .subscribeOn(aiReplyScheduler) // 검색/크롤링은 블로킹 -> 전용 풀에서 실행
+                .flatMap(geminiClient::generate)
+                .defaultIfEmpty(GEMINI_FALLBACK_MESSAGE)
+                .doOnNext(answer -> log.info("🧠 Gemini 응답: {}", answer));
+    }
+
+    /**
+     * Gemini 스트리밍 호출 부분 (streamGenerateContent, SSE)
+     * - 토큰 조각이 도착할 때마다 /sub/chatroom/{id} 로 바로 발행
+     * - 전체 응답은 스트림이 끝난 뒤 한 번만 반환 -> 호출 측에서 한 번만 저장
+     */
+    public Mono<String> callGeminiWithStreaming(Long chatRoomId, String userMessage,
+                                                List<Map<String, String>> conversationHistory, ChatBotPersona persona) {
+        log.info("📡 Gemini 스트리밍 API 호출 시작...");
+        String streamId = UUID.randomUUID().toString();
+        AtomicInteger index = new AtomicInteger();
+
+        return Mono.fromCallable(() -> buildGeminiRequest(userMessage, conversationHistory, persona))
+                .subscribeOn(aiReplyScheduler)
+                .flatMapMany(geminiClient::stream)
+                .publishOn(Schedulers.boundedElastic()) // Redis 발행은 블로킹 -> 이벤트 루프 밖에서 순서대로 처리
+                .doOnNext(delta -> redisPublisher.publishStream(
+                        new ChatStreamResponse(streamId, chatRoomId, 0L, index.getAndIncrement(), delta)))
+                .collect(Collectors.joining())
+                .filter(answer -> !answer.isEmpty())
+                .defaultIfEmpty(GEMINI_FALLBACK_MESSAGE)
+                .doOnNext(answer -> log.info("🧠 Gemini 스트리밍 응답 ({} 조각): {}", index.get(), answer));
+    }
+
+    /**
+     * 신뢰 자료 검색 결과와 대화 이력으로 Gemini 요청 본문 생성
+     */
+    private Map<String, Object> buildGeminiRequest(String userMessage, List<Map<String, String>> conversationHistory,
+                                                   ChatBotPersona persona) {
         // 신뢰 자료 수집 (본문 포함)
         List<Map<String, String>> searchResults = searchService.searchAndCrawlTop2WithBody(userMessage);
         log.info("searchResults: {}", searchResults);
-        List<Map<String, String>> messages = prepareMessagesGeminiAI(userMessage, conversationHistory, chatRoomInfo, searchResults);
+        List<Map<String, String>> messages = prepareMessagesGeminiAI(userMessage, conversationHistory, persona, searchResults);
 
         String prompt = messages.stream()
                 .map(m -> m.get("role") + ": " + m.get("content"))
                 .collect(Collectors.joining("\n\n"));
-
-        // Gemini API 요청
-        Map<String, Object> requestBody = Map.of(
-                "contents", List.of(
-                        Map.of("parts", List.of(Map.of("text", prompt)))
-                )
-        );
         log.info("📨 요청 프롬프트: {}", prompt);
 
-        String answer = webClientBuilder.build()
-                .post()
-                .uri(apiUrl + "?key=" + apiKey)
-                .header("Content-Type", "application/json")
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .map(response -> {
-                    try {
-                        Map<?, ?> candidate = (Map<?, ?>) ((List<?>) response.get("candidates")).get(0);
-                        Map<?, ?> content = (Map<?, ?>) candidate.get("content");
-                        List<?> parts = (List<?>) content.get("parts");
-                        Map<?, ?> part = (Map<?, ?>) parts.get(0);
-                        return part.get("text").toString();
-                    } catch (Exception e) {
-                        return "오늘 많이 지쳤죠. 너무 잘 버티고 있어요. 천천히 나아가도 괜찮아요.";
-                    }
-                })
-                .block();
-        log.info("🧠 Gemini 응답: {}", answer);
-        return answer;
-
+        // Gemini API 요청
+        return GeminiClient.textRequest(prompt);
     }
 
     /**
      * 실제 OpenAI API 호출 부분
      */
-    public String callOpenAi(String userMessage, List<Map<String, String>> conversationHistory, ChatRoomInfo chatRoomInfo) {
-        List<Map<String, String>> messages = prepareMessagesOpenAI(userMessage, conversationHistory, chatRoomInfo);
+    public Mono<String> callOpenAi(String userMessage, List<Map<String, String>> conversationHistory, ChatBotPersona persona) {
+        List<Map<String, String>> messages = prepareMessagesOpenAI(userMessage, conversationHistory, persona);
 
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("model", DEFAULT_MODEL);
@@ -176,8 +464,7 @@ public class AIService {
                 .onErrorResume(Exception.class, ex -> {
                     log.error("예상치 못한 오류: {}", ex.getMessage(), ex);
                     return Mono.just("서비스 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
-                })
-                .block();
+                });
     }
 
     /**
@@ -186,7 +473,7 @@ public class AIService {
     private List<Map<String, String>> prepareMessagesGeminiAI(
             String userMessage,
             List<Map<String, String>> conversationHistory,
-            ChatRoomInfo chatRoomInfo,
+            ChatBotPersona persona,
             List<Map<String, String>> searchResults) {
 
         List<Map<String, String>> messages = new ArrayList<>();
@@ -199,10 +486,10 @@ public class AIService {
         String systemPrompt = String.format(
                 "당신은 '%s'라는 AI 챗봇입니다. 설명: %s. 공감 레벨: %s. 톤: %s.\n\n" +
                         "아래는 신뢰할 수 있는 참고 자료입니다. 반드시 이 자료를 바탕으로 답변을 구성하고, 출처(기관명)을 시작 부분에 명시하세요.:\n\n%s",
-                chatRoomInfo.getName(),
-                chatRoomInfo.getDescription(),
-                chatRoomInfo.getEmpathyLevel(),
-                chatRoomInfo.getTone(),
+                persona.name(),
+                persona.description(),
+                persona.empathyLevel(),
+                persona.tone(),
                 referenceTexts
         );
 
@@ -227,16 +514,16 @@ public class AIService {
      * 대화 이력을 포함한 메시지 준비
      */
     private List<Map<String, String>> prepareMessagesOpenAI(String userMessage,
-                                                            List<Map<String, String>> conversationHistory, ChatRoomInfo chatRoomInfo) {
+                                                            List<Map<String, String>> conversationHistory, ChatBotPersona persona) {
         List<Map<String, String>> messages = new ArrayList<>();
 
-        // ✅ system 메시지: chatRoomInfo 기반 생성
+        // ✅ system 메시지: 챗봇 성격(persona) 기반 생성
         String systemPrompt = String.format(
                 "당신은 '%s'라는 AI 챗봇입니다. 설명: %s. 공감 레벨: %s. 톤: %s. 이 특성에 맞게 답변하세요.",
-                chatRoomInfo.getName(),
-                chatRoomInfo.getDescription(),
-                chatRoomInfo.getEmpathyLevel(),
-                chatRoomInfo.getTone()
+                persona.name(),
+                persona.description(),
+                persona.empathyLevel(),
+                persona.tone()
         );
 
         Map<String, String> systemMessage = new HashMap<>();
@@ -261,7 +548,7 @@ public class AIService {
     /**
      * GPT 오류 처리
      */
-    private void handleGptError(Long chatRoomId, Exception e) {
+    private void handleGptError(Long chatRoomId, Throwable e) {
         String errorMessage = "AI 응답 생성 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.";
 
         Chat errorChat = Chat.builder()
@@ -277,7 +564,8 @@ public class AIService {
                 chatRoomId,
                 0L,
                 savedErrorChat.getContent(),
-                savedErrorChat.getCreatedAt()
+                savedErrorChat.getCreatedAt(),
+                savedErrorChat.getSeq()
         );
         redisPublisher.publish(errorResponse);
     }
@@ -293,4 +581,41 @@ public class AIService {
                 .build();
     }
     */
+
+    private record ReplyJob(
+            Long chatRoomId,
+            List<String> messages, // 하나의 응답으로 합친 사용자 메시지들
+            Timer.Sample sample,
+            Sinks.One<String> cancelSignal // 취소 사유를 값으로 전달
+    ) {
+
+        private String userMessage() {
+            return String.join("\n", messages);
+        }
+    }
+
+    /**
+     * 채팅방별 응답 대기 상태 (roomReplies.compute 안에서만 변경)
+     */
+    private static class RoomReplyState {
+
+        private final Long chatRoomId;
+        private final List<String> pendingMessages = new ArrayList<>();
+        private Timer.Sample sample; // 대기 중인 첫 메시지부터 응답 발행까지 측정
+        private long firstPendingAt;
+        private long lastPendingAt;
+        private Disposable flushTimer;
+        private boolean generating;
+        private ReplyJob activeJob; // 취소 가능한(아직 저장 전인) 생성 작업
+
+        private RoomReplyState(Long chatRoomId) {
+            this.chatRoomId = chatRoomId;
+        }
+
+        private boolean isReady(long debounceMs, long maxWaitMs) {
+            long now = System.nanoTime();
+            return now - lastPendingAt >= TimeUnit.MILLISECONDS.toNanos(debounceMs)
+                    || now - firstPendingAt >= TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        }
+    }
 }
\ No newline at end of file
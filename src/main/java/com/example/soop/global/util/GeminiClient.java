@@ -0,0 +1,104 @@
+package com.example.soop.global.util;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Gemini API 논블로킹 클라이언트
+ * - 모든 호출은 Mono/Flux 로 반환되며, 응답 대기 중에 스레드를 점유하지 않음
+ * - 호출마다 타임아웃(deadline) 적용, 5xx 응답은 백오프 재시도
+ */
+@Slf4j
+@Component
+public class GeminiClient {
+
+    private static final int MAX_RETRIES = 1;
+
+    private final WebClient webClient;
+
+    @Value("${gemini.api-url}")
+    private String apiUrl;
+
+    @Value("${gemini.api-key}")
+    private String apiKey;
+
+    @Value("${gemini.timeout-seconds:60}")
+    private long timeoutSeconds;
+
+    public GeminiClient(WebClient.Builder webClientBuilder) {
+        this.webClient = webClientBuilder.build();
+    }
+
+    /**
+     * 단일 프롬프트 요청 본문 생성
+     */
+    public static Map<String, Object> textRequest(String prompt) {
+        return Map.of(
+            "contents", List.of(
+                Map.of("parts", List.of(Map.of("text", prompt)))
+            )
+        );
+    }
+
+    /**
+     * 전체 응답을 한 번에 받는 호출 (generateContent) - 텍스트가 없으면 빈 Mono
+     */
+    public Mono<String> generate(Map<String, Object> requestBody) {
+        return webClient.post()
+            .uri(apiUrl + "?key=" + apiKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(requestBody)
+            .retrieve()
+            .bodyToMono(Map.class)
+            .timeout(Duration.ofSeconds(timeoutSeconds))
+            .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofSeconds(1)).filter(GeminiClient::isServerError))
+            .map(GeminiClient::extractText)
+            .filter(text -> !text.isEmpty());
+    }
+
+    /**
+     * 토큰 조각 단위 스트리밍 호출 (streamGenerateContent, SSE)
+     */
+    public Flux<String> stream(Map<String, Object> requestBody) {
+        return webClient.post()
+            .uri(apiUrl.replace(":generateContent", ":streamGenerateContent") + "?alt=sse&key=" + apiKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .bodyValue(requestBody)
+            .retrieve()
+            .bodyToFlux(Map.class)
+            .timeout(Duration.ofSeconds(timeoutSeconds)) // 조각 사이 대기 시간 제한
+            .map(GeminiClient::extractText)
+            .filter(text -> !text.isEmpty());
+    }
+
+    /**
+     * Gemini 응답(또는 스트리밍 조각)에서 텍스트 추출, 없으면 빈 문자열
+     */
+    private static String extractText(Map<?, ?> response) {
+        try {
+            Map<?, ?> candidate = (Map<?, ?>) ((List<?>) response.get("candidates")).get(0);
+            Map<?, ?> content = (Map<?, ?>) candidate.get("content");
+            List<?> parts = (List<?>) content.get("parts");
+            Map<?, ?> part = (Map<?, ?>) parts.get(0);
+            return part.get("text").toString();
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    private static boolean isServerError(Throwable throwable) {
+        return throwable instanceof WebClientResponseException
+            && ((WebClientResponseException) throwable).getStatusCode().is5xxServerError();
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.soop.global.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 크롤링한 페이지 본문 캐시 (URL -> selector 로 추출해 1000자로 자른 텍스트)
+ * - fresh-seconds 동안은 크롤링 없이 캐시된 텍스트 사용
+ * - 만료 후에는 ETag / Last-Modified 로 조건부 요청 -> 304 면 본문을 다시 받지 않고 기간만 연장
+ * - 크롤링 실패한 페이지는 failure-ttl-seconds 동안 다시 시도하지 않음 (negative cache)
+ * - 재검증이 실패하면 이전 텍스트를 계속 쓰고 failure-ttl-seconds 뒤에 다시 시도
+ * - 같은 URL 동시 요청은 한 요청만 크롤링/재검증하고 나머지는 그 결과를 기다림
+ * - 결과별 요청 수: search.page-cache.requests{result=hit|negative|coalesced|not_modified|fetched|failed}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageContentCache {
+
+    private static final String USER_AGENT = "Mozilla/5.0";
+    private static final int MAX_TEXT_LENGTH = 1000;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${google.search.page-cache.max-size:2000}")
+    private long maxSize;
+
+    @Value("${google.search.page-cache.fresh-seconds:86400}")
+    private long freshSeconds;
+
+    @Value("${google.search.page-cache.retain-seconds:604800}")
+    private long retainSeconds; // 만료 후에도 재검증용(ETag 등)으로 보관하는 기간
+
+    @Value("${google.search.page-cache.failure-ttl-seconds:600}")
+    private long failureTtlSeconds;
+
+    private Cache<String, CrawledPage> cache;
+    private final ConcurrentMap<String, CompletableFuture<CrawledPage>> inFlight = new ConcurrentHashMap<>(); // URL -> 진행 중인 크롤링
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new Expiry<String, CrawledPage>() {
+                @Override
+                public long expireAfterCreate(String url, CrawledPage page, long currentTime) {
+                    return retention(page);
+                }
+
+                @Override
+                public long expireAfterUpdate(String url, CrawledPage page, long currentTime, long currentDuration) {
+                    return retention(page);
+                }
+
+                @Override
+                public long expireAfterRead(String url, CrawledPage page, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "crawledPages");
+    }
+
+    /**
+     * 페이지 본문 조회 - 크롤링 실패(또는 실패 기록이 남아 있는) 페이지는 빈 Optional
+     */
+    public Optional<String> get(String url, String selector) {
+        CrawledPage cached = cache.getIfPresent(url);
+        if (cached != null && cached.isFresh()) {
+            record(cached.failed() ? "negative" : "hit");
+            return Optional.ofNullable(cached.text());
+        }
+
+        CompletableFuture<CrawledPage> mine = new CompletableFuture<>();
+        CompletableFuture<CrawledPage> running = inFlight.putIfAbsent(url, mine);
+        if (running != null) {
+            record("coalesced");
+            return Optional.ofNullable(running.join().text());
+        }
+        try {
+            CrawledPage page = refresh(url, selector);
+            mine.complete(page);
+            return Optional.ofNullable(page.text());
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(url, mine);
+        }
+    }
+
+    /**
+     * 진행 중인 요청이 없을 때만 호출 - 그 사이 다른 요청이 갱신했으면 크롤링하지 않음
+     */
+    private CrawledPage refresh(String url, String selector) {
+        CrawledPage cached = cache.getIfPresent(url);
+        if (cached != null && cached.isFresh()) {
+            record(cached.failed() ? "negative" : "hit");
+            return cached;
+        }
+        CrawledPage page = crawl(url, selector, cached != null && !cached.failed() ? cached : null);
+        cache.put(url, page); // inFlight 에서 빠지기 전에 저장해야 뒤이은 요청이 다시 크롤링하지 않음
+        return page;
+    }
+
+    /**
+     * 이전에 받은 본문이 있으면 조건부 요청, 없으면 일반 요청
+     */
+    private CrawledPage crawl(String url, String selector, CrawledPage previous) {
+        try {
+            Connection connection = Jsoup.connect(url).userAgent(USER_AGENT).ignoreHttpErrors(true);
+            if (previous != null && previous.etag() != null) {
+                connection.header(HttpHeaders.IF_NONE_MATCH, previous.etag());
+            }
+            if (previous != null && previous.lastModified() != null) {
+                connection.header(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+            }
+            Connection.Response response = connection.execute();
+
+            if (response.statusCode() == HttpStatus.NOT_MODIFIED.value() && previous != null) {
+                record("not_modified");
+                return previous.withExpiresAt(expiresAt(freshSeconds));
+            }
+            if (response.statusCode() != HttpStatus.OK.value()) {
+                log.debug("페이지 크롤링 실패, url: {}, status: {}", url, response.statusCode());
+                return failed(previous);
+            }
+
+            String text = response.parse().select(selector).text();
+            record("fetched");
+            return new CrawledPage(
+                text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) + "..." : text,
+                response.header(HttpHeaders.ETAG),
+                response.header(HttpHeaders.LAST_MODIFIED),
+                expiresAt(freshSeconds)
+            );
+        } catch (Exception e) {
+            log.debug("페이지 크롤링 실패, url: {}", url, e);
+            return failed(previous);
+        }
+    }
+
+    /**
+     * 실패 기록 - 이전 본문이 있으면 그대로 쓰고 failure-ttl 뒤에 다시 재검증
+     */
+    private CrawledPage failed(CrawledPage previous) {
+        record("failed");
+        if (previous != null) {
+            return previous.withExpiresAt(expiresAt(failureTtlSeconds));
+        }
+        return new CrawledPage(null, null, null, expiresAt(failureTtlSeconds));
+    }
+
+    private long retention(CrawledPage page) {
+        return TimeUnit.SECONDS.toNanos(page.failed() ? failureTtlSeconds : retainSeconds);
+    }
+
+    private long expiresAt(long seconds) {
+        return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(seconds);
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("search.page-cache.requests", "result", result).increment();
+    }
+
+    private record CrawledPage(
+        String text, // null 이면 크롤링 실패
+        String etag,
+        String lastModified,
+        long expiresAt // 이 시각(epoch ms)까지는 재검증 없이 사용
+    ) {
+
+        private boolean failed() {
+            return text == null;
+        }
+
+        private boolean isFresh() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+
+        private CrawledPage withExpiresAt(long expiresAt) {
+            return new CrawledPage(text, etag, lastModified, expiresAt);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.soop.global.util;
+
+import com.example.soop.global.util.SearchService.SearchHit;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Google Custom Search 결과 캐시 (신뢰 도메인으로 거른 검색 결과)
+ * - 검색어 정규화(NFKC, 소문자, 문장부호/연속 공백 제거) 후 같은 키로 조회 -> "수면 장애?" 와 "수면  장애" 는 같은 결과
+ * - 1차: 로컬 Caffeine 캐시 (최대 개수 초과 시 빈도 기반(W-TinyLFU) 제거, TTL)
+ * - 2차: google.search.cache.redis.enabled=true 면 Redis 에 같은 TTL 로 저장해 모든 서버가 공유
+ * - 같은 검색어 동시 요청은 한 번만 검색 (Caffeine 로딩 단위로 묶임), 검색 실패는 캐시하지 않음
+ * - 적중률: cache.gets{cache=searchResults} (로컬), search.cache.redis{result} (Redis)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchResultCache {
+
+    private static final String REDIS_KEY_PREFIX = "search-cache:";
+    private static final TypeReference<List<SearchHit>> HITS_TYPE = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${google.search.cache.max-size:5000}")
+    private long maxSize;
+
+    @Value("${google.search.cache.ttl-seconds:21600}")
+    private long ttlSeconds;
+
+    @Value("${google.search.cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    private Cache<String, List<SearchHit>> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "searchResults");
+    }
+
+    /**
+     * 캐시 조회, 없으면 원래 검색어로 searcher 호출 후 저장
+     * - 정규화된 검색어는 캐시 키로만 사용 (검색 품질은 원래 검색어 기준)
+     */
+    public List<SearchHit> get(String query, Function<String, List<SearchHit>> searcher) {
+        return cache.get(normalize(query), normalized -> loadShared(normalized, query, searcher));
+    }
+
+    static String normalize(String query) {
+        return Normalizer.normalize(query, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("[\\p{P}\\p{S}]", " ")
+            .replaceAll("\\s+", " ")
+            .trim();
+    }
+
+    private List<SearchHit> loadShared(String normalized, String query,
+        Function<String, List<SearchHit>> searcher) {
+        if (!redisEnabled) {
+            return searcher.apply(query);
+        }
+        String redisKey = redisKey(normalized);
+        List<SearchHit> shared = readRedis(redisKey);
+        if (shared != null) {
+            meterRegistry.counter("search.cache.redis", "result", "hit").increment();
+            return shared;
+        }
+        meterRegistry.counter("search.cache.redis", "result", "miss").increment();
+
+        List<SearchHit> hits = searcher.apply(query);
+        writeRedis(redisKey, hits);
+        return hits;
+    }
+
+    /**
+     * Redis 장애 시 캐시 없이 검색하도록 null 반환
+     */
+    private List<SearchHit> readRedis(String redisKey) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(redisKey);
+            return json == null ? null : objectMapper.readValue(json, HITS_TYPE);
+        } catch (Exception e) {
+            log.warn("검색 결과 Redis 캐시 조회 실패, key: {}", redisKey, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String redisKey, List<SearchHit> hits) {
+        try {
+            stringRedisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(hits),
+                Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("검색 결과 Redis 캐시 저장 실패, key: {}", redisKey, e);
+        }
+    }
+
+    private String redisKey(String normalized) {
+        // 검색어 길이와 관계없이 키 길이를 고정
+        return REDIS_KEY_PREFIX + DigestUtils.md5DigestAsHex(normalized.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,7 +3,9 @@ package com.example.soop.global.util;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLEncoder;
@@ -11,14 +13,17 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
+@RequiredArgsConstructor
 public class SearchService {
 
+    private final SearchResultCache searchResultCache;
+    private final PageContentCache pageContentCache;
+
     @Value("${google.search.api-key}")
     private String API_KEY;
 
@@ -99,8 +104,43 @@ public class SearchService {
         Map.entry("msdmanuals.com", "div.content")
     );
 
+    /**
+     * 신뢰 도메인 검색 결과 상위 2개와 본문 수집
+     * - 검색 결과는 SearchResultCache 로 캐시 (같은 주제 반복 질문 시 Google API 호출 생략)
+     * - 본문은 PageContentCache 로 캐시 (URL 별, 만료 후 조건부 요청으로 재검증)
+     */
     public List<Map<String, String>> searchAndCrawlTop2WithBody(String query) {
         List<Map<String, String>> results = new ArrayList<>();
+        try {
+            List<SearchHit> hits = searchResultCache.get(query, this::searchTrusted);
+
+            for (SearchHit hit : hits) {
+                if (Thread.currentThread().isInterrupted()) break; // 응답 생성이 취소됨 -> 남은 크롤링 생략
+
+                Map<String, String> result = new HashMap<>();
+                result.put("title", hit.title());
+                result.put("link", hit.link());
+                result.put("snippet", hit.snippet());
+
+                String selector = DOMAIN_SELECTORS.getOrDefault(getDomain(hit.link()), "body");
+                result.put("text", pageContentCache.get(hit.link(), selector).orElse("본문을 불러올 수 없습니다."));
+
+                results.add(result);
+                if (results.size() >= 2) break; // 상위 2개까지만 수집
+            }
+
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+
+        return results;
+    }
+
+    /**
+     * Google Custom Search 호출 후 상위 5개 중 신뢰 도메인 결과만 반환
+     * - 호출 실패는 예외로 던져 캐시되지 않도록 함
+     */
+    private List<SearchHit> searchTrusted(String query) {
         try {
             String encodedQuery = URLEncoder.encode(query, "UTF-8");
             String apiUrl = String.format(
@@ -123,41 +163,21 @@ public class SearchService {
             JsonNode root = mapper.readTree(responseText.toString());
             JsonNode items = root.get("items");
 
+            List<SearchHit> hits = new ArrayList<>();
             if (items != null) {
                 for (int i = 0; i < Math.min(5, items.size()); i++) {
                     JsonNode item = items.get(i);
                     String link = item.get("link").asText();
-                    String title = item.get("title").asText();
-                    String snippet = item.get("snippet").asText();
 
                     if (!isTrusted(link)) continue;
 
-                    Map<String, String> result = new HashMap<>();
-                    result.put("title", title);
-                    result.put("link", link);
-                    result.put("snippet", snippet);
-
-                    try {
-                        Document doc = Jsoup.connect(link).userAgent("Mozilla/5.0").get();
-                        String domain = getDomain(link);
-                        String selector = DOMAIN_SELECTORS.getOrDefault(domain, "body");
-                        String text = doc.select(selector).text();
-
-                        result.put("text", text.length() > 1000 ? text.substring(0, 1000) + "..." : text);
-                    } catch (Exception e) {
-                        result.put("text", "본문을 불러올 수 없습니다.");
-                    }
-
-                    results.add(result);
-                    if (results.size() >= 2) break; // 상위 2개까지만 수집
+                    hits.add(new SearchHit(item.get("title").asText(), link, item.get("snippet").asText()));
                 }
             }
-
-        } catch (Exception e) {
-            e.printStackTrace();
+            return hits;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-
-        return results;
     }
 
     public String getDomain(String url) {
@@ -172,4 +192,15 @@ public class SearchService {
     private boolean isTrusted(String url) {
         return TRUSTED_DOMAINS.contains(getDomain(url));
     }
+
+    /**
+     * 신뢰 도메인 검색 결과 한 건 (본문 제외, 캐시 단위)
+     */
+    public record SearchHit(
+        String title,
+        String link,
+        String snippet
+    ) {
+
+    }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.example.soop.global.websocket;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.PathMatcher;
+
+/**
+ * 목적지(destination) 문자열로 바로 찾는 Simple Broker 구독 저장소
+ * - 기본 DefaultSubscriptionRegistry 는 목적지 캐시(기본 1024개)를 벗어나면 전체 구독을 순회해서 매칭
+ *   -> /sub/chatroom/{id} 구독이 수만 개면 브로드캐스트마다 비용이 큼
+ * - 여기서는 목적지 -> (세션 -> 구독 ID) 맵으로 채팅방 구독자를 O(1)에 조회
+ * - 와일드카드 패턴 구독(/sub/chatroom/** 등)만 기본 구독 저장소에 위임
+ * - selector 헤더는 지원하지 않음 (이 서비스에서 사용하지 않음)
+ */
+public class ChatRoomSubscriptionRegistry extends AbstractSubscriptionRegistry {
+
+    private final Map<String, Map<String, Set<String>>> subscriptionsByDestination = new ConcurrentHashMap<>(); // destination -> {sessionId -> subscriptionIds}
+    private final Map<String, Map<String, String>> destinationsBySession = new ConcurrentHashMap<>(); // sessionId -> {subscriptionId -> destination}
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final DefaultSubscriptionRegistry patternRegistry = new DefaultSubscriptionRegistry();
+    private final AtomicInteger patternSubscriptionCount = new AtomicInteger();
+
+    @Override
+    protected void addSubscriptionInternal(String sessionId, String subscriptionId, String destination,
+        Message<?> message) {
+        if (pathMatcher.isPattern(destination)) {
+            patternRegistry.registerSubscription(message);
+            patternSubscriptionCount.incrementAndGet();
+        } else {
+            subscriptionsByDestination.compute(destination, (key, sessions) -> {
+                Map<String, Set<String>> result = sessions != null ? sessions : new ConcurrentHashMap<>();
+                result.computeIfAbsent(sessionId, id -> ConcurrentHashMap.newKeySet()).add(subscriptionId);
+                return result;
+            });
+        }
+        destinationsBySession.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+            .put(subscriptionId, destination);
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        Map<String, String> sessionDestinations = destinationsBySession.get(sessionId);
+        if (sessionDestinations == null) {
+            return;
+        }
+        String destination = sessionDestinations.remove(subscriptionId);
+        if (sessionDestinations.isEmpty()) {
+            destinationsBySession.remove(sessionId, sessionDestinations);
+        }
+        if (destination == null) {
+            return;
+        }
+        if (pathMatcher.isPattern(destination)) {
+            patternRegistry.unregisterSubscription(message);
+            patternSubscriptionCount.decrementAndGet();
+        } else {
+            removeFromDestination(destination, sessionId, subscriptionId);
+        }
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        Map<String, String> sessionDestinations = destinationsBySession.remove(sessionId);
+        if (sessionDestinations == null) {
+            return;
+        }
+        boolean hasPattern = false;
+        for (Map.Entry<String, String> entry : sessionDestinations.entrySet()) {
+            if (pathMatcher.isPattern(entry.getValue())) {
+                hasPattern = true;
+                patternSubscriptionCount.decrementAndGet();
+            } else {
+                removeFromDestination(entry.getValue(), sessionId, entry.getKey());
+            }
+        }
+        if (hasPattern) {
+            patternRegistry.unregisterAllSubscriptions(sessionId);
+        }
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        MultiValueMap<String, String> result = new LinkedMultiValueMap<>();
+        Map<String, Set<String>> sessions = subscriptionsByDestination.get(destination);
+        if (sessions != null) {
+            sessions.forEach((sessionId, subscriptionIds) -> {
+                for (String subscriptionId : subscriptionIds) {
+                    result.add(sessionId, subscriptionId);
+                }
+            });
+        }
+        if (patternSubscriptionCount.get() > 0) {
+            patternRegistry.findSubscriptions(message).forEach(
+                (sessionId, subscriptionIds) -> subscriptionIds.forEach(id -> result.add(sessionId, id)));
+        }
+        return result;
+    }
+
+    private void removeFromDestination(String destination, String sessionId, String subscriptionId) {
+        subscriptionsByDestination.computeIfPresent(destination, (key, sessions) -> {
+            sessions.computeIfPresent(sessionId, (id, subscriptionIds) -> {
+                subscriptionIds.remove(subscriptionId);
+                return subscriptionIds.isEmpty() ? null : subscriptionIds;
+            });
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.soop.global.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+/**
+ * 느린 WebSocket 클라이언트 감지 및 차단
+ * - 모든 세션을 SlowConsumerSessionDecorator 로 감싸 세션별 송신 대기열 크기를 제한
+ *   (ephemeral 프레임은 오래된 것부터 버리고, 채팅 메시지가 한도를 넘으면 연결 종료)
+ * - 감시 스레드가 소켓 쓰기 하나가 sendTimeLimit 을 넘긴 세션을 연결 종료 (close 는 종료 전용 스레드에서 실행)
+ * - 송신 스레드: 평소 pool-size 개, 블로킹 쓰기(SockJS)가 밀리면 max-pool-size 까지 늘어남
+ *   -> 느린 세션 몇 개가 스레드를 잡고 있어도 다른 세션 전송은 계속됨, 한도에 닿으면 새로 예약하려는 세션을 바로 종료
+ * - 메트릭: 세션별 대기열 크기 분포, 송신 지연, 버린 프레임 수, 강제 종료 수, 전체 대기 바이트
+ *   (세션 ID 태그는 메트릭 수가 폭증하므로 사용하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class SlowConsumerGuard implements WebSocketHandlerDecoratorFactory {
+
+    public static final String EPHEMERAL_HEADER = "ephemeral"; // 유실돼도 되는 프레임 (AI 스트리밍 조각 등)
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, SlowConsumerSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+    @Value("${chat.ws.send-time-limit-ms:10000}")
+    private long sendTimeLimit;
+
+    @Value("${chat.ws.send-buffer-size-kb:512}")
+    private int sendBufferSizeKb;
+
+    @Value("${chat.ws.send.pool-size:16}")
+    private int sendPoolSize;
+
+    @Value("${chat.ws.send.max-pool-size:256}")
+    private int sendMaxPoolSize; // 동시에 진행될 수 있는 블로킹 쓰기 수 상한
+
+    private ThreadPoolTaskExecutor sendExecutor;
+    private ExecutorService closeExecutor;
+    private ScheduledExecutorService watchdog;
+    private DistributionSummary bufferedBytes;
+    private Timer sendLatency;
+    private Counter dropped;
+
+    @PostConstruct
+    void start() {
+        sendExecutor = new ThreadPoolTaskExecutor();
+        sendExecutor.setCorePoolSize(sendPoolSize);
+        sendExecutor.setMaxPoolSize(Math.max(sendPoolSize, sendMaxPoolSize));
+        sendExecutor.setQueueCapacity(0); // 대기열 없이 바로 스레드 할당, 한도 초과 시 거절 (느린 쓰기 뒤에 줄 세우지 않음)
+        sendExecutor.setThreadNamePrefix("ws-send-");
+        sendExecutor.initialize();
+
+        closeExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "ws-close");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        bufferedBytes = DistributionSummary.builder("chat.ws.session.buffer.bytes")
+            .description("메시지 추가 시점의 세션 송신 대기열 크기")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        sendLatency = Timer.builder("chat.ws.session.send.latency")
+            .description("송신 대기열에 들어간 뒤 소켓 쓰기가 끝날 때까지 걸린 시간")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        dropped = meterRegistry.counter("chat.ws.session.dropped");
+        Gauge.builder("chat.ws.outbound.buffer.bytes", sessions,
+                map -> map.values().stream().mapToLong(SlowConsumerSessionDecorator::getBufferedBytes).sum())
+            .description("모든 세션 송신 대기열 크기 합계")
+            .register(meterRegistry);
+
+        watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ws-send-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchdog.scheduleWithFixedDelay(this::disconnectStalledSessions, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SlowConsumerSessionDecorator decorated = new SlowConsumerSessionDecorator(session, SlowConsumerGuard.this);
+                sessions.put(session.getId(), decorated);
+                super.afterConnectionEstablished(decorated);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    long getBufferSizeLimit() {
+        return sendBufferSizeKb * 1024L;
+    }
+
+    /**
+     * 송신 스레드에서 실행 - 스레드가 max-pool-size 까지 모두 사용 중이면 RejectedExecutionException
+     */
+    void execute(Runnable task) {
+        sendExecutor.execute(task);
+    }
+
+    /**
+     * 세션 close - 진행 중인 쓰기 뒤에서 막힐 수 있으므로 종료 전용 스레드에서 실행
+     */
+    void close(Runnable task) {
+        closeExecutor.execute(task);
+    }
+
+    void recordBuffered(long bytes) {
+        bufferedBytes.record(bytes);
+    }
+
+    void recordSendLatency(long nanos) {
+        sendLatency.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void recordDisconnect(String reason) {
+        meterRegistry.counter("chat.ws.session.slow.disconnects", "reason", reason).increment();
+    }
+
+    private void disconnectStalledSessions() {
+        long now = System.nanoTime();
+        sessions.values().forEach(session -> {
+            if (session.isSendStalled(now, sendTimeLimit)) {
+                session.disconnect("send-time");
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        watchdog.shutdownNow();
+        sendExecutor.shutdown();
+        closeExecutor.shutdown();
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.soop.global.websocket;
+
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendHandler;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.standard.StandardWebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * 세션별 송신 대기열
+ * - sendMessage 는 대기열에 넣고 바로 반환, 실제 소켓 쓰기는 SlowConsumerGuard 의 송신 스레드에서 순서대로 실행
+ *   -> STOMP outbound 스레드가 느린 소켓 쓰기에 묶이지 않음
+ * - 네이티브 WebSocket 세션은 비동기 전송(RemoteEndpoint.Async) -> 쓰기 완료를 기다리는 동안 스레드를 점유하지 않음
+ * - SockJS 세션은 블로킹 쓰기, 송신 스레드가 모두 사용 중이면 기다리지 않고 해당 세션 연결 종료
+ * - 대기열 크기가 한도를 넘으면 가장 오래된 일회성 프레임(ephemeral 헤더)부터 버림
+ * - 일회성 프레임을 모두 버려도 한도를 넘으면(채팅 메시지가 쌓인 경우) 연결 종료
+ */
+@Slf4j
+class SlowConsumerSessionDecorator extends WebSocketSessionDecorator {
+
+    private static final int MAX_MESSAGES_PER_FLUSH = 64; // 한 세션이 송신 스레드를 오래 점유하지 않도록 나눠서 전송
+    private static final String EPHEMERAL_HEADER_LINE = "\n" + SlowConsumerGuard.EPHEMERAL_HEADER + ":true\n";
+
+    private final SlowConsumerGuard guard;
+    private final Deque<Outbound> queue = new ArrayDeque<>(); // this 로 동기화
+    private long bufferedBytes; // this 로 동기화
+    private boolean flushing; // this 로 동기화
+
+    private volatile long sendStartedAt; // 진행 중인 소켓 쓰기 시작 시각 (nanoTime), 없으면 0
+    private volatile boolean closing;
+    private RemoteEndpoint.Async asyncRemote; // 송신 스레드에서만 접근, 비동기 전송을 지원하지 않으면 null
+    private boolean asyncResolved;
+
+    SlowConsumerSessionDecorator(WebSocketSession session, SlowConsumerGuard guard) {
+        super(session);
+        this.guard = guard;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        if (closing) {
+            return;
+        }
+        Outbound outbound = new Outbound(message, isEphemeral(message), System.nanoTime());
+        boolean overLimit;
+        boolean startFlush = false;
+        long buffered;
+        synchronized (this) {
+            queue.addLast(outbound);
+            bufferedBytes += outbound.size();
+            while (bufferedBytes > guard.getBufferSizeLimit() && dropOldestEphemeral()) {
+                guard.recordDropped();
+            }
+            buffered = bufferedBytes;
+            overLimit = buffered > guard.getBufferSizeLimit();
+            if (!overLimit && !flushing) {
+                flushing = true;
+                startFlush = true;
+            }
+        }
+        guard.recordBuffered(buffered);
+        if (overLimit) {
+            disconnect("buffer");
+            return;
+        }
+        if (startFlush) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * 송신 스레드에 flush 예약 - 스레드가 모두 사용 중이면(블로킹 쓰기가 한도까지 밀림) 기다리지 않고 연결 종료
+     */
+    private void scheduleFlush() {
+        try {
+            guard.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                flushing = false;
+            }
+            disconnect("saturated");
+        }
+    }
+
+    /**
+     * 송신 스레드에서 대기열 전송 - 최대 MAX_MESSAGES_PER_FLUSH 개 보낸 뒤 남아 있으면 다시 예약
+     */
+    private void flush() {
+        for (int sent = 0; sent < MAX_MESSAGES_PER_FLUSH; sent++) {
+            Outbound next;
+            synchronized (this) {
+                next = closing ? null : queue.pollFirst();
+                if (next == null) {
+                    flushing = false;
+                    return;
+                }
+                bufferedBytes -= next.size();
+            }
+            sendStartedAt = System.nanoTime();
+            if (sendAsync(next)) {
+                return; // 완료 콜백에서 다음 flush 예약
+            }
+            try {
+                getDelegate().sendMessage(next.message());
+                guard.recordSendLatency(System.nanoTime() - next.enqueuedAt());
+            } catch (IOException | RuntimeException e) {
+                log.debug("WebSocket 전송 실패, sessionId: {}", getId(), e);
+                disconnect("error");
+            } finally {
+                sendStartedAt = 0;
+            }
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * 비동기 전송 시작 - 지원하지 않는 세션/메시지면 false (블로킹 쓰기로 처리)
+     */
+    private boolean sendAsync(Outbound next) {
+        RemoteEndpoint.Async remote = asyncRemote();
+        if (remote == null) {
+            return false;
+        }
+        SendHandler handler = result -> {
+            sendStartedAt = 0;
+            if (!result.isOK()) {
+                log.debug("WebSocket 전송 실패, sessionId: {}", getId(), result.getException());
+                disconnect("error");
+                return;
+            }
+            guard.recordSendLatency(System.nanoTime() - next.enqueuedAt());
+            scheduleFlush();
+        };
+        try {
+            if (next.message() instanceof TextMessage text) {
+                remote.sendText(text.getPayload(), handler);
+                return true;
+            }
+            if (next.message() instanceof BinaryMessage binary) {
+                remote.sendBinary(binary.getPayload(), handler);
+                return true;
+            }
+            return false;
+        } catch (RuntimeException e) {
+            sendStartedAt = 0;
+            log.debug("WebSocket 전송 실패, sessionId: {}", getId(), e);
+            disconnect("error");
+            return true;
+        }
+    }
+
+    private RemoteEndpoint.Async asyncRemote() {
+        if (!asyncResolved) {
+            asyncResolved = true;
+            if (getDelegate() instanceof StandardWebSocketSession standard && standard.getNativeSession() != null) {
+                asyncRemote = standard.getNativeSession().getAsyncRemote();
+            }
+        }
+        return asyncRemote;
+    }
+
+    /**
+     * 진행 중인 소켓 쓰기가 sendTimeLimit 을 넘었는지 (SlowConsumerGuard 감시 스레드에서 호출)
+     */
+    boolean isSendStalled(long now, long sendTimeLimitMs) {
+        long startedAt = sendStartedAt;
+        return startedAt != 0 && now - startedAt > TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMs);
+    }
+
+    void disconnect(String reason) {
+        synchronized (this) {
+            if (closing) {
+                return;
+            }
+            closing = true;
+            queue.clear();
+            bufferedBytes = 0;
+        }
+        guard.recordDisconnect(reason);
+        log.warn("느린 WebSocket 세션 연결 종료, sessionId: {}, reason: {}", getId(), reason);
+        // 진행 중인 쓰기 뒤에서 close 가 막힐 수 있으므로 호출 스레드(감시 스레드 등)가 아닌 종료 전용 스레드에서 실행
+        guard.close(() -> {
+            try {
+                getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException | RuntimeException e) {
+                log.debug("WebSocket 세션 종료 실패, sessionId: {}", getId(), e);
+            }
+        });
+    }
+
+    synchronized long getBufferedBytes() {
+        return bufferedBytes;
+    }
+
+    private boolean dropOldestEphemeral() {
+        Iterator<Outbound> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            Outbound outbound = iterator.next();
+            if (outbound.ephemeral()) {
+                iterator.remove();
+                bufferedBytes -= outbound.size();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * STOMP 프레임 헤더 영역에 ephemeral:true 가 있는지 확인
+     */
+    private static boolean isEphemeral(WebSocketMessage<?> message) {
+        if (!(message instanceof TextMessage textMessage)) {
+            return false;
+        }
+        String frame = textMessage.getPayload();
+        int headerEnd = frame.indexOf("\n\n");
+        String headers = headerEnd < 0 ? frame : frame.substring(0, headerEnd + 1);
+        return headers.contains(EPHEMERAL_HEADER_LINE);
+    }
+
+    private record Outbound(WebSocketMessage<?> message, boolean ephemeral, long enqueuedAt) {
+
+        int size() {
+            return message.getPayloadLength();
+        }
+    }
+}
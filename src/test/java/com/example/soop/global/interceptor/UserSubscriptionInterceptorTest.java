@@ -0,0 +1,42 @@
+package com.example.soop.global.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class UserSubscriptionInterceptorTest {
+
+    @Test
+    void allowsOwnUserDestination() {
+        assertTrue(UserSubscriptionInterceptor.isAllowed("/sub/users/5/unread", 5L));
+        assertTrue(UserSubscriptionInterceptor.isAllowed("/sub/users/5/**", 5L));
+    }
+
+    @Test
+    void rejectsOtherUserDestination() {
+        assertFalse(UserSubscriptionInterceptor.isAllowed("/sub/users/6/unread", 5L));
+        assertFalse(UserSubscriptionInterceptor.isAllowed("/sub/users/55/unread", 5L));
+        assertFalse(UserSubscriptionInterceptor.isAllowed("/sub/users/5", 5L));
+    }
+
+    @Test
+    void rejectsUserDestinationWithoutAuthenticatedUser() {
+        assertFalse(UserSubscriptionInterceptor.isAllowed("/sub/users/5/unread", null));
+    }
+
+    @Test
+    void rejectsWildcardsThatCanMatchUserDestinations() {
+        assertFalse(UserSubscriptionInterceptor.isAllowed("/sub/users/*/unread", 5L));
+        assertFalse(UserSubscriptionInterceptor.isAllowed("/sub/**", 5L));
+        assertFalse(UserSubscriptionInterceptor.isAllowed("/**", 5L));
+        assertFalse(UserSubscriptionInterceptor.isAllowed("/sub/user?/6/unread", 5L));
+    }
+
+    @Test
+    void allowsOtherDestinations() {
+        assertTrue(UserSubscriptionInterceptor.isAllowed("/sub/chatroom/1", 5L));
+        assertTrue(UserSubscriptionInterceptor.isAllowed("/sub/chatroom/**", 5L));
+        assertTrue(UserSubscriptionInterceptor.isAllowed(null, 5L));
+    }
+}
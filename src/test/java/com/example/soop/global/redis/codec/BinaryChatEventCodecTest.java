@@ -0,0 +1,174 @@
+package com.example.soop.global.redis.codec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.soop.domain.chat.dto.res.ChatContentResponse;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BinaryChatEventCodecTest {
+
+    private static final String OBJECT_ID = "65f1c2a9e4b0a1b2c3d4e5f6";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_238);
+
+    private final BinaryChatEventCodec codec = new BinaryChatEventCodec();
+
+    @Test
+    void roundTrip() {
+        ChatContentResponse message = new ChatContentResponse(OBJECT_ID, 42L, 7L, "안녕하세요 👋", CREATED_AT, 1234L);
+
+        byte[] encoded = codec.encode(message);
+
+        assertEquals(codec.formatId(), encoded[0]);
+        assertEquals(message, codec.decode(encoded));
+    }
+
+    @Test
+    void objectIdIsPackedSmallerThanJson() {
+        ChatContentResponse message = new ChatContentResponse(OBJECT_ID, 42L, 7L, "hi", CREATED_AT, 1234L);
+
+        byte[] binary = codec.encode(message);
+        byte[] json = new JsonChatEventCodec().encode(message);
+
+        assertTrue(binary.length < json.length, "binary: " + binary.length + ", json: " + json.length);
+    }
+
+    @Test
+    void allFieldsNull() {
+        ChatContentResponse message = new ChatContentResponse(null, null, null, null, null, null);
+
+        byte[] encoded = codec.encode(message);
+
+        assertEquals(2, encoded.length);
+        assertEquals(message, codec.decode(encoded));
+    }
+
+    @Test
+    void emptyContentIsNotNull() {
+        ChatContentResponse message = new ChatContentResponse(OBJECT_ID, 1L, 2L, "", CREATED_AT, null);
+
+        assertEquals("", codec.decode(codec.encode(message)).content());
+    }
+
+    @Test
+    void nonObjectIdChatIdsRoundTrip() {
+        List<String> chatIds = List.of(
+            "temp-1",
+            "",
+            OBJECT_ID.toUpperCase(), // 대문자 hex 는 12바이트로 줄이면 소문자로 바뀌므로 문자열 그대로
+            OBJECT_ID.substring(1),
+            OBJECT_ID + "0",
+            "65f1c2a9e4b0a1b2c3d4e5fg"
+        );
+
+        for (String chatId : chatIds) {
+            ChatContentResponse message = new ChatContentResponse(chatId, 1L, 2L, "hi", CREATED_AT, 3L);
+            assertEquals(message, codec.decode(codec.encode(message)), chatId);
+        }
+    }
+
+    @Test
+    void negativeAndExtremeNumbersRoundTrip() {
+        List<Long> values = List.of(-1L, 0L, 1L, -42L, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        for (Long value : values) {
+            ChatContentResponse message = new ChatContentResponse(OBJECT_ID, value, value, "hi", CREATED_AT, value);
+            assertEquals(message, codec.decode(codec.encode(message)), String.valueOf(value));
+        }
+    }
+
+    @Test
+    void createdAtBeforeEpochRoundTrips() {
+        ChatContentResponse message = new ChatContentResponse(OBJECT_ID, 1L, 2L, "hi",
+            LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_999), 3L);
+
+        assertEquals(message, codec.decode(codec.encode(message)));
+    }
+
+    @Test
+    void decodeWithoutSeq() {
+        ChatContentResponse message = new ChatContentResponse(OBJECT_ID, 42L, 7L, "hi", CREATED_AT, null);
+
+        ChatContentResponse decoded = codec.decode(codec.encode(message));
+
+        assertNull(decoded.seq());
+        assertEquals(message, decoded);
+    }
+
+    @Test
+    void seqIsAppendedAfterOtherFields() {
+        ChatContentResponse withoutSeq = new ChatContentResponse(OBJECT_ID, 42L, 7L, "hi", CREATED_AT, null);
+        ChatContentResponse withSeq = new ChatContentResponse(OBJECT_ID, 42L, 7L, "hi", CREATED_AT, 1234L);
+
+        byte[] before = codec.encode(withoutSeq);
+        byte[] after = codec.encode(withSeq);
+
+        // seq 를 뺀 나머지 바이트는 seq 가 없던 포맷과 같아야 함 (flags 제외)
+        assertArrayEquals(Arrays.copyOfRange(before, 2, before.length), Arrays.copyOfRange(after, 2, before.length));
+        assertEquals(1234L, codec.decode(after).seq());
+    }
+
+    @Test
+    void trailingBytesAreIgnored() {
+        ChatContentResponse message = new ChatContentResponse(OBJECT_ID, 42L, 7L, "hi", CREATED_AT, null);
+        byte[] encoded = codec.encode(message);
+        byte[] extended = Arrays.copyOf(encoded, encoded.length + 3);
+        extended[encoded.length] = 0x7F;
+
+        assertEquals(message, codec.decode(extended));
+    }
+
+    @Test
+    void rejectsTruncatedInput() {
+        byte[] encoded = codec.encode(new ChatContentResponse(OBJECT_ID, 42L, 7L, "안녕", CREATED_AT, 1234L));
+
+        for (int length = 0; length < encoded.length; length++) {
+            byte[] truncated = Arrays.copyOf(encoded, length);
+            assertThrows(IllegalArgumentException.class, () -> codec.decode(truncated), "length: " + length);
+        }
+    }
+
+    @Test
+    void rejectsWrongFormatByte() {
+        byte[] encoded = codec.encode(new ChatContentResponse(OBJECT_ID, 42L, 7L, "hi", CREATED_AT, 1234L));
+        encoded[0] = '{';
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(encoded));
+    }
+
+    @Test
+    void rejectsOverlongVarint() {
+        byte[] bytes = new byte[12];
+        Arrays.fill(bytes, (byte) 0xFF);
+        bytes[0] = codec.formatId();
+        bytes[1] = 1 << 2; // chatRoomId 만 있음
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(bytes));
+    }
+
+    @Test
+    void rejectsStringLengthBeyondInput() {
+        byte[] bytes = {codec.formatId(), 1 << 4, 0x7F, 'h', 'i'}; // content 길이 127, 실제 2바이트
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(bytes));
+    }
+
+    @Test
+    void codecsDispatchByFirstByte() {
+        JsonChatEventCodec json = new JsonChatEventCodec();
+        ChatEventCodecs codecs = new ChatEventCodecs(List.of(json, codec), "binary");
+        ChatContentResponse message = new ChatContentResponse(OBJECT_ID, 42L, 7L, "hi", CREATED_AT, 1234L);
+
+        assertArrayEquals(codec.encode(message), codecs.encode(message));
+        assertEquals(message, codecs.decode(codec.encode(message)));
+        assertEquals(message, codecs.decode(json.encode(message)));
+        assertThrows(IllegalArgumentException.class, () -> codecs.decode(new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> codecs.decode(new byte[]{0x7E, 0}));
+    }
+}
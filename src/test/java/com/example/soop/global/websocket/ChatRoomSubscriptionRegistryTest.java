@@ -0,0 +1,141 @@
+package com.example.soop.global.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+class ChatRoomSubscriptionRegistryTest {
+
+    private final ChatRoomSubscriptionRegistry registry = new ChatRoomSubscriptionRegistry();
+
+    @Test
+    void findsExactSubscriptionsByDestination() {
+        subscribe("s1", "sub1", "/sub/chatroom/1");
+        subscribe("s1", "sub2", "/sub/chatroom/1");
+        subscribe("s2", "sub1", "/sub/chatroom/1");
+        subscribe("s2", "sub2", "/sub/chatroom/2");
+
+        MultiValueMap<String, String> result = find("/sub/chatroom/1");
+
+        assertEquals(2, result.size());
+        assertEquals(List.of("sub1", "sub2"), result.get("s1").stream().sorted().toList());
+        assertEquals(List.of("sub1"), result.get("s2"));
+        assertEquals(Map.of("s2", List.of("sub2")), find("/sub/chatroom/2"));
+        assertTrue(find("/sub/chatroom/3").isEmpty());
+    }
+
+    @Test
+    void removesSingleSubscription() {
+        subscribe("s1", "sub1", "/sub/chatroom/1");
+        subscribe("s1", "sub2", "/sub/chatroom/2");
+        subscribe("s2", "sub1", "/sub/chatroom/1");
+
+        unsubscribe("s1", "sub1");
+
+        assertEquals(Map.of("s2", List.of("sub1")), find("/sub/chatroom/1"));
+        assertEquals(Map.of("s1", List.of("sub2")), find("/sub/chatroom/2"));
+    }
+
+    @Test
+    void removingUnknownSubscriptionIsIgnored() {
+        subscribe("s1", "sub1", "/sub/chatroom/1");
+
+        unsubscribe("s1", "unknown");
+        unsubscribe("unknown", "sub1");
+
+        assertEquals(Map.of("s1", List.of("sub1")), find("/sub/chatroom/1"));
+    }
+
+    @Test
+    void resubscribingAfterLastRemovalWorks() {
+        subscribe("s1", "sub1", "/sub/chatroom/1");
+        unsubscribe("s1", "sub1");
+        assertTrue(find("/sub/chatroom/1").isEmpty());
+
+        subscribe("s1", "sub1", "/sub/chatroom/1");
+
+        assertEquals(Map.of("s1", List.of("sub1")), find("/sub/chatroom/1"));
+    }
+
+    @Test
+    void unregistersAllSubscriptionsOfSession() {
+        subscribe("s1", "sub1", "/sub/chatroom/1");
+        subscribe("s1", "sub2", "/sub/chatroom/2");
+        subscribe("s2", "sub1", "/sub/chatroom/1");
+
+        registry.unregisterAllSubscriptions("s1");
+
+        assertEquals(Map.of("s2", List.of("sub1")), find("/sub/chatroom/1"));
+        assertTrue(find("/sub/chatroom/2").isEmpty());
+
+        registry.unregisterAllSubscriptions("s1"); // 이미 정리된 세션
+        registry.unregisterAllSubscriptions("unknown");
+        assertEquals(Map.of("s2", List.of("sub1")), find("/sub/chatroom/1"));
+    }
+
+    @Test
+    void delegatesPatternSubscriptions() {
+        subscribe("s1", "sub1", "/sub/chatroom/1");
+        subscribe("s2", "sub1", "/sub/chatroom/**");
+
+        MultiValueMap<String, String> result = find("/sub/chatroom/1");
+
+        assertEquals(2, result.size());
+        assertEquals(List.of("sub1"), result.get("s1"));
+        assertEquals(List.of("sub1"), result.get("s2"));
+        assertEquals(Map.of("s2", List.of("sub1")), find("/sub/chatroom/2"));
+        assertTrue(find("/sub/users/1/unread").isEmpty());
+    }
+
+    @Test
+    void removesPatternSubscription() {
+        subscribe("s1", "sub1", "/sub/chatroom/**");
+        subscribe("s1", "sub2", "/sub/chatroom/1");
+
+        unsubscribe("s1", "sub1");
+
+        assertEquals(Map.of("s1", List.of("sub2")), find("/sub/chatroom/1"));
+        assertTrue(find("/sub/chatroom/2").isEmpty());
+    }
+
+    @Test
+    void unregisterAllRemovesPatternSubscriptions() {
+        subscribe("s1", "sub1", "/sub/chatroom/**");
+        subscribe("s1", "sub2", "/sub/chatroom/1");
+        subscribe("s2", "sub1", "/sub/chatroom/*");
+
+        registry.unregisterAllSubscriptions("s1");
+
+        assertEquals(Map.of("s2", List.of("sub1")), find("/sub/chatroom/1"));
+        assertEquals(Map.of("s2", List.of("sub1")), find("/sub/chatroom/2"));
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        registry.registerSubscription(message(SimpMessageType.SUBSCRIBE, sessionId, subscriptionId, destination));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        registry.unregisterSubscription(message(SimpMessageType.UNSUBSCRIBE, sessionId, subscriptionId, null));
+    }
+
+    private MultiValueMap<String, String> find(String destination) {
+        return registry.findSubscriptions(message(SimpMessageType.MESSAGE, null, null, destination));
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String sessionId, String subscriptionId,
+        String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}